@@ -0,0 +1,72 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레벨 계산 비교 (이전 반복문 vs LevelCalculator 공식)
+ *
+ * - levelUp: 경험치가 쌓인 뒤 레벨 확인 (이전: 다음 레벨 누적 경험치를 매번 1레벨부터 합산하며 while 반복)
+ * - levelInfo: 프로필 조회 시 현재/다음 레벨 누적 경험치 계산
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=LevelCalculatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelCalculatorBenchmark {
+
+	@Param({"10", "100", "1000", "10000"})
+	int level;
+
+	// 레벨업 직후 상태 - 저장된 레벨은 한 단계 아래, 경험치는 현재 레벨 도달 직후
+	int storedLevel;
+	long totalExp;
+
+	@Setup
+	public void setUp() {
+		storedLevel = level - 1;
+		totalExp = LevelCalculator.totalExpForLevel(level) + 1;
+	}
+
+	@Benchmark
+	public int levelUpIterative() {
+		int current = storedLevel;
+		while (totalExp >= iterativeTotalExpForLevel(current + 1)) {
+			current++;
+		}
+		return current;
+	}
+
+	@Benchmark
+	public int levelUpClosedForm() {
+		return LevelCalculator.levelForExp(totalExp);
+	}
+
+	@Benchmark
+	public long levelInfoIterative() {
+		return iterativeTotalExpForLevel(level + 1) - iterativeTotalExpForLevel(level);
+	}
+
+	@Benchmark
+	public long levelInfoClosedForm() {
+		return LevelCalculator.totalExpForLevel(level + 1) - LevelCalculator.totalExpForLevel(level);
+	}
+
+	// 이전 LevelUpService.calculateTotalExpForLevel (오버플로 없이 비교하도록 long 사용)
+	private static long iterativeTotalExpForLevel(int targetLevel) {
+		long total = 0;
+		for (int l = 1; l < targetLevel; l++) {
+			total += (l / 10 + 1) * 600L;
+		}
+		return total;
+	}
+}
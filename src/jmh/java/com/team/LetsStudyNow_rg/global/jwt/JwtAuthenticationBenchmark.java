@@ -0,0 +1,102 @@
+package com.team.LetsStudyNow_rg.global.jwt;
+
+import com.team.LetsStudyNow_rg.global.auth.CustomUser;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import java.lang.reflect.Field;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 비용 비교 (토큰 검증 캐시 사용 vs 매 요청 검증)
+ *
+ * - filterWithCache: 현재 JwtFilter (캐시에서 인증 객체를 꺼냄)
+ * - filterWithoutCache: 캐시 도입 전 JwtFilter와 같은 처리 (매 요청 HMAC 검증, JSON 파싱, 권한 분리)
+ * - authenticationWithCache / authenticationWithoutCache: 필터를 뺀 토큰 → 인증 객체 단계만 비교
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+	private final JwtFilter jwtFilter = new JwtFilter();
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+	private final FilterChain chain = (req, res) -> {
+	};
+
+	String token;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		JwtUtil jwtUtil = new JwtUtil();
+		Field secret = JwtUtil.class.getDeclaredField("secret");
+		secret.setAccessible(true);
+		secret.set(jwtUtil, Base64.getEncoder().encodeToString(new byte[32]));
+		jwtUtil.init();
+
+		List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+		CustomUser user = new CustomUser("bench@test.com", "none", authorities);
+		user.id = 1L;
+		user.username = "bench";
+		token = JwtUtil.createToken(new UsernamePasswordAuthenticationToken(user, null, authorities));
+
+		// 캐시 경로는 첫 요청 이후 상태를 측정
+		JwtUtil.getAuthentication(token);
+	}
+
+	@Benchmark
+	public Authentication filterWithCache() throws Exception {
+		MockHttpServletRequest request = request();
+		jwtFilter.doFilter(request, response, chain);
+		return takeAuthentication();
+	}
+
+	@Benchmark
+	public Authentication filterWithoutCache() {
+		MockHttpServletRequest request = request();
+		String jwtToken = request.getHeader("Authorization").substring(7);
+		UsernamePasswordAuthenticationToken authToken = JwtUtil.createAuthentication(JwtUtil.extractToken(jwtToken));
+		authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+		SecurityContextHolder.getContext().setAuthentication(authToken);
+		return takeAuthentication();
+	}
+
+	@Benchmark
+	public Authentication authenticationWithCache() {
+		return JwtUtil.getAuthentication(token);
+	}
+
+	@Benchmark
+	public Authentication authenticationWithoutCache() {
+		return JwtUtil.createAuthentication(JwtUtil.extractToken(token));
+	}
+
+	private MockHttpServletRequest request() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/timer/status");
+		request.addHeader("Authorization", "Bearer " + token);
+		return request;
+	}
+
+	private Authentication takeAuthentication() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+}
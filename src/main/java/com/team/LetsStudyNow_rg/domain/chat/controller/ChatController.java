@@ -7,10 +7,12 @@ import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
 import com.team.LetsStudyNow_rg.domain.chat.enums.MessageType;
 import com.team.LetsStudyNow_rg.domain.chat.service.ChatService;
 import com.team.LetsStudyNow_rg.global.auth.CustomUser;
+import com.team.LetsStudyNow_rg.global.s3.ImageUploadResult;
 import com.team.LetsStudyNow_rg.global.s3.S3Service;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -21,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -105,28 +108,38 @@ public class ChatController {
     }
 
     // 이전 채팅 가져옴 (크기: 20)
-    @Operation(summary = "채팅 내역 조회", description = "특정 방의 이전 채팅 내역을 최신순으로 조회합니다.")
+    // beforeMessageId가 있으면 그 메시지 이전부터 조회 (스크롤용, page보다 우선)
+    // beforeSentAt은 마지막으로 받은 메시지의 sentAt (함께 주면 기준 메시지를 조회하지 않음)
+    @Operation(summary = "채팅 내역 조회", description = "특정 방의 이전 채팅 내역을 최신순으로 조회합니다. beforeMessageId를 주면 해당 메시지 이전 내역을 조회하고, 그 메시지의 sentAt을 beforeSentAt으로 함께 주면 기준 메시지가 삭제됐어도 이어서 조회합니다.")
     @GetMapping("/api/chat/room/{roomId}")
-    public ResponseEntity<List<ChatMessage>> getChatHistory(
+    public ResponseEntity<List<ChatMessageResponse>> getChatHistory(
             @PathVariable(value = "roomId") Long roomId,
             @RequestParam(value = "roomType") ChatRoomType roomType,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "beforeMessageId", required = false) Long beforeMessageId,
+            @RequestParam(value = "beforeSentAt", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeSentAt
     ) {
+        if (beforeMessageId != null) {
+            return ResponseEntity.ok(chatService.getChatHistoryBefore(roomId, roomType, beforeMessageId, beforeSentAt, size));
+        }
 
         // 리스트로 변환 (최신순)
-        List<ChatMessage> chatList = chatService.getChatHistory(roomId, roomType, page, size);
+        List<ChatMessageResponse> chatList = chatService.getChatHistory(roomId, roomType, page, size);
 
         return ResponseEntity.ok(chatList);
     }
 
+    // 채팅 이미지 업로드 (표시용/미리보기용으로 줄여서 저장)
+    @Operation(summary = "채팅 이미지 업로드", description = "이미지를 표시용(1280px)과 미리보기용(240px)으로 줄여 저장하고 각 URL을 반환합니다.")
     @PostMapping(value = "/api/chat/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<String> uploadChatImage(
+    public ResponseEntity<ImageUploadResult> uploadChatImage(
             @RequestPart("file") MultipartFile file
     ) {
-        String imageUrl = s3Service.uploadFile(file, "chat");
+        ImageUploadResult result = s3Service.uploadImage(file, "chat");
 
-        return ResponseEntity.ok(imageUrl);
+        return ResponseEntity.ok(result);
     }
 }
 
@@ -16,10 +16,14 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        // 방별 채팅 내역 조회 (최신순, 키셋 페이지네이션) - PK(id)는 InnoDB 보조 인덱스에 자동 포함
+        @Index(name = "idx_chat_message_room_sent_at", columnList = "room_type, room_id, sent_at")
+})
 public class ChatMessage {
 
+    // ID는 ChatMessageIdGenerator가 발급 (저장 전에 발행할 수 있도록)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -48,12 +52,14 @@ public class ChatMessage {
     private Boolean isSelected; // 채택 여부
 
     @Builder
-    public ChatMessage(ChatRoomType roomType, Long roomId, String sender, String message, MessageType type, Long refId, Boolean isSolved, Boolean isSelected) {
+    public ChatMessage(Long id, ChatRoomType roomType, Long roomId, String sender, String message, MessageType type, LocalDateTime sentAt, Long refId, Boolean isSolved, Boolean isSelected) {
+        this.id = id;
         this.roomType = roomType;
         this.roomId = roomId;
         this.sender = sender;
         this.message = message;
         this.type = type;
+        this.sentAt = sentAt;
         this.refId = refId;
         this.isSolved = isSolved;
         this.isSelected = isSelected;
@@ -0,0 +1,26 @@
+package com.team.LetsStudyNow_rg.domain.chat.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 ID 발급용 시퀀스 (행 1개)
+ * 서버마다 ID 블록을 예약해서 쓰므로 여러 서버가 동시에 발급해도 겹치지 않음
+ * 조회/갱신은 ChatRepository의 네이티브 쿼리로만 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "chat_message_sequence")
+public class ChatMessageSequence {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long nextId; // 다음에 예약할 블록의 시작 ID
+}
@@ -5,8 +5,34 @@ import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ChatRepository extends JpaRepository<ChatMessage, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
 
-    Slice<ChatMessage> findByRoomIdAndRoomTypeOrderBySentAtDesc(Long roomId, ChatRoomType roomType, Pageable pageable);
+public interface ChatRepository extends JpaRepository<ChatMessage, Long>, ChatRepositoryCustom {
+
+    Slice<ChatMessage> findByRoomIdAndRoomTypeOrderBySentAtDescIdDesc(Long roomId, ChatRoomType roomType, Pageable pageable);
+
+    // 기준 메시지(sentAt, id)보다 이전 메시지 (키셋 페이지네이션, 최신순)
+    // OFFSET 없이 인덱스(room_type, room_id, sent_at)에서 바로 시작 → 얼마나 과거든 첫 페이지와 같은 비용
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.roomType = :roomType AND m.roomId = :roomId " +
+           "AND (m.sentAt < :sentAt OR (m.sentAt = :sentAt AND m.id < :messageId)) " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<ChatMessage> findBefore(@Param("roomType") ChatRoomType roomType,
+                                 @Param("roomId") Long roomId,
+                                 @Param("sentAt") LocalDateTime sentAt,
+                                 @Param("messageId") Long messageId,
+                                 Pageable pageable);
+
+    // 기준 메시지가 삭제돼서 sentAt을 알 수 없을 때 ID만으로 이전 메시지 조회 (ID는 발급 순서대로 증가)
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.roomType = :roomType AND m.roomId = :roomId AND m.id < :messageId " +
+           "ORDER BY m.sentAt DESC, m.id DESC")
+    List<ChatMessage> findBeforeId(@Param("roomType") ChatRoomType roomType,
+                                   @Param("roomId") Long roomId,
+                                   @Param("messageId") Long messageId,
+                                   Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.team.LetsStudyNow_rg.domain.chat.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.entity.ChatMessage;
+
+import java.util.List;
+
+public interface ChatRepositoryCustom {
+
+    /**
+     * ID가 발급된 메시지를 JDBC 배치 INSERT 한 번으로 저장
+     */
+    void insertAll(List<ChatMessage> messages);
+
+    /**
+     * ID 시퀀스 초기화 (없으면 생성, 기존 메시지 ID보다 작으면 끌어올림)
+     */
+    void initIdSequence();
+
+    /**
+     * ID 블록 예약 (시퀀스 행 잠금, 트랜잭션 안에서 호출)
+     *
+     * @return 예약한 블록의 시작 ID
+     */
+    long allocateIds(int blockSize);
+}
@@ -0,0 +1,62 @@
+package com.team.LetsStudyNow_rg.domain.chat.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message (id, room_type, room_id, sender, message, type, sent_at, ref_id, is_solved, is_selected) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INIT_SEQUENCE_SQL =
+            "INSERT IGNORE INTO chat_message_sequence (id, next_id) " +
+            "SELECT 1, COALESCE(MAX(id), 0) + 1 FROM chat_message";
+
+    private static final String RAISE_SEQUENCE_SQL =
+            "UPDATE chat_message_sequence " +
+            "SET next_id = GREATEST(next_id, (SELECT COALESCE(MAX(id), 0) + 1 FROM chat_message)) " +
+            "WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = messages.stream()
+                .map(message -> new Object[]{
+                        message.getId(),
+                        message.getRoomType().name(),
+                        message.getRoomId(),
+                        message.getSender(),
+                        message.getMessage(),
+                        message.getType().name(),
+                        Timestamp.valueOf(message.getSentAt()),
+                        message.getRefId(),
+                        message.getIsSolved(),
+                        message.getIsSelected()})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    @Override
+    public void initIdSequence() {
+        jdbcTemplate.update(INIT_SEQUENCE_SQL);
+        jdbcTemplate.update(RAISE_SEQUENCE_SQL);
+    }
+
+    @Override
+    public long allocateIds(int blockSize) {
+        Long nextId = jdbcTemplate.queryForObject(
+                "SELECT next_id FROM chat_message_sequence WHERE id = 1 FOR UPDATE", Long.class);
+        jdbcTemplate.update("UPDATE chat_message_sequence SET next_id = ? WHERE id = 1", nextId + blockSize);
+        return nextId;
+    }
+}
@@ -0,0 +1,51 @@
+package com.team.LetsStudyNow_rg.domain.chat.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.repository.ChatRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채팅 메시지 ID 발급기
+ *
+ * DB 시퀀스(chat_message_sequence)에서 ID 블록을 예약해 두고 메모리에서 하나씩 발급
+ * → 메시지를 저장하기 전에 ID를 붙여서 바로 발행할 수 있고, 블록당 DB 접근은 한 번
+ *
+ * - 예약은 별도 트랜잭션으로 커밋 (호출한 쪽이 롤백돼도 블록이 다시 발급되지 않음)
+ * - 재시작하면 남은 블록은 버려짐 (ID에 빈 구간이 생길 수 있음)
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    private static final int BLOCK_SIZE = 1000;
+
+    private final ChatRepository chatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 현재 블록 [nextId, blockEnd)
+    private long nextId;
+    private long blockEnd;
+
+    // 생성자 주입
+    public ChatMessageIdGenerator(ChatRepository chatRepository, PlatformTransactionManager transactionManager) {
+        this.chatRepository = chatRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate.executeWithoutResult(status -> chatRepository.initIdSequence());
+    }
+
+    public synchronized long nextId() {
+        if (nextId >= blockEnd) {
+            long blockStart = transactionTemplate.execute(status -> chatRepository.allocateIds(BLOCK_SIZE));
+            nextId = blockStart;
+            blockEnd = blockStart + BLOCK_SIZE;
+        }
+        return nextId++;
+    }
+}
@@ -0,0 +1,189 @@
+package com.team.LetsStudyNow_rg.domain.chat.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.entity.ChatMessage;
+import com.team.LetsStudyNow_rg.domain.chat.repository.ChatRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 저장기 (write-behind)
+ *
+ * 발행이 끝난 메시지를 제한된 큐에 넣고, 전용 스레드가 batch-size개가 모이거나
+ * flush-interval-ms가 지나면 JDBC 배치 INSERT 한 번으로 저장
+ *
+ * - 큐가 가득 차면 잠시 기다렸다가 그래도 자리가 없으면 호출 스레드에서 직접 저장 (역압)
+ * - 종료 시(@PreDestroy) 큐에 남은 메시지를 모두 저장한 뒤 스레드 종료
+ * - 배치가 실패하면 한 건씩 다시 저장해서 문제 있는 메시지만 버림
+ * - 발행된 ID로 바로 조회하는 경로(삭제, 이전 내역 커서)는 awaitPersisted로 저장을 기다린 뒤 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMessageWriter {
+
+    private static final long OFFER_TIMEOUT_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+    private static final long AWAIT_PERSISTED_TIMEOUT_MS = 2_000;
+
+    private final ChatRepository chatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.chat.batch-size:100}")
+    private int batchSize;
+
+    @Value("${custom.chat.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${custom.chat.queue-capacity:10000}")
+    private int queueCapacity;
+
+    // 저장 대기 중인 메시지 ID → 저장 완료 신호 (저장에 실패해도 신호는 보냄)
+    private final ConcurrentMap<Long, CountDownLatch> pending = new ConcurrentHashMap<>();
+
+    private BlockingQueue<ChatMessage> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::run, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 저장 대기열에 추가
+     */
+    public void write(ChatMessage message) {
+        if (running) {
+            pending.put(message.getId(), new CountDownLatch(1));
+            try {
+                if (queue.offer(message, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+                log.warn("채팅 저장 큐가 가득 참 - 직접 저장, 대기 중: {}개", queue.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        persist(List.of(message));
+    }
+
+    /**
+     * 메시지가 저장 대기 중이면 저장이 끝날 때까지 대기 (최대 AWAIT_PERSISTED_TIMEOUT_MS)
+     * 큐는 들어온 순서대로 저장되므로, 반환 후에는 이 메시지보다 먼저 들어온 메시지도 저장된 상태
+     *
+     * @return false: 제한 시간 안에 저장되지 않음
+     */
+    public boolean awaitPersisted(Long messageId) {
+        CountDownLatch latch = pending.get(messageId);
+        if (latch == null) {
+            return true;
+        }
+        try {
+            return latch.await(AWAIT_PERSISTED_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        if (writerThread.isAlive()) {
+            log.error("채팅 저장 스레드가 제시간에 끝나지 않음 - 남은 메시지: {}개", queue.size());
+        } else {
+            log.info("채팅 저장 스레드 종료 - 남은 메시지 모두 저장 완료");
+        }
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            List<ChatMessage> batch = collectBatch();
+            if (!batch.isEmpty()) {
+                persist(batch);
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지가 들어온 뒤 batch-size개가 모이거나 flush-interval-ms가 지날 때까지 모음
+     */
+    private List<ChatMessage> collectBatch() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        try {
+            ChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+            while (batch.size() < batchSize) {
+                queue.drainTo(batch, batchSize - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                    break;
+                }
+                ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+        } catch (InterruptedException e) {
+            // 인터럽트되면 종료 처리 (모은 메시지와 큐에 남은 메시지는 계속 저장)
+            running = false;
+        }
+        return batch;
+    }
+
+    /**
+     * 저장 후 기다리는 조회에 완료 신호
+     */
+    private void persist(List<ChatMessage> batch) {
+        try {
+            insert(batch);
+        } finally {
+            for (ChatMessage message : batch) {
+                CountDownLatch latch = pending.remove(message.getId());
+                if (latch != null) {
+                    latch.countDown();
+                }
+            }
+        }
+    }
+
+    private void insert(List<ChatMessage> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chatRepository.insertAll(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("채팅 메시지 저장 실패 - ID: {}", batch.get(0).getId(), e);
+                return;
+            }
+            log.warn("채팅 메시지 배치 저장 실패 - {}개 개별 저장 재시도", batch.size(), e);
+            for (ChatMessage message : batch) {
+                insert(List.of(message));
+            }
+        }
+    }
+}
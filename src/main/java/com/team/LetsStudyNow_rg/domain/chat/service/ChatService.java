@@ -6,17 +6,18 @@ import com.team.LetsStudyNow_rg.domain.chat.entity.ChatMessage;
 import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
 import com.team.LetsStudyNow_rg.domain.chat.enums.MessageType;
 import com.team.LetsStudyNow_rg.domain.chat.repository.ChatRepository;
-import com.team.LetsStudyNow_rg.domain.member.entity.Member;
 import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +25,20 @@ public class ChatService {
 
     private final ChatRepository chatRepository;
     private final MemberRepository memberRepository;
-
-    @Transactional
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RecentChatBuffer recentChatBuffer;
+
+    /**
+     * 메시지 ID/전송 시각을 부여하고 저장
+     * - QUESTION, ANSWER: 검증 후 바로 저장 (답변/채택이 곧바로 참조하므로)
+     * - 그 외: 저장 큐에 넣고 바로 반환 (발행이 DB 저장을 기다리지 않음)
+     */
     public ChatMessageResponse saveMessage(ChatMessageRequest request, String sender) {
+        if (request.getType() == null || request.getRoomType() == null || request.getRoomId() == null) {
+            throw new IllegalArgumentException("메시지 타입과 방 정보는 필수입니다.");
+        }
+
         String content = request.getMessage();
 
         // 입장 메시지 처리
@@ -63,18 +75,27 @@ public class ChatService {
         }
 
         ChatMessage chatEntity = ChatMessage.builder()
+                .id(idGenerator.nextId())
                 .roomType(request.getRoomType())
                 .roomId(request.getRoomId())
                 .sender(sender)
                 .message(content)
                 .type(request.getType())
+                .sentAt(LocalDateTime.now())
                 .refId(request.getRefId())
                 .isSolved(isSolved)
                 .isSelected(false)
                 .build();
 
-        ChatMessage savedMessage = chatRepository.save(chatEntity);
-        return ChatMessageResponse.from(savedMessage);
+        if (MessageType.QUESTION.equals(request.getType()) || MessageType.ANSWER.equals(request.getType())) {
+            chatRepository.insertAll(List.of(chatEntity));
+        } else {
+            chatMessageWriter.write(chatEntity);
+        }
+
+        ChatMessageResponse response = ChatMessageResponse.from(chatEntity);
+        recentChatBuffer.append(response);
+        return response;
     }
 
     // 질문 해결 완료 처리
@@ -111,18 +132,22 @@ public class ChatService {
 
             answer.markAsSelected();
 
-            Member answerer = memberRepository.findByUsername(answer.getSender())
-                    .orElseThrow(() -> new IllegalArgumentException("답변 작성자를 찾을 수 없습니다."));
-
-            answerer.increaseAdoptionCount();
+            // 답변 작성자 채택 횟수 증가 (회원 조회 없이 UPDATE 한 번)
+            if (memberRepository.increaseAdoptionCountByUsername(answer.getSender()) == 0) {
+                throw new IllegalArgumentException("답변 작성자를 찾을 수 없습니다.");
+            }
+            TransactionCallbacks.afterCommit(() -> recentChatBuffer.replace(ChatMessageResponse.from(answer)));
         }
 
+        TransactionCallbacks.afterCommit(() -> recentChatBuffer.replace(ChatMessageResponse.from(question)));
         return question;
     }
 
     // 메시지 삭제 처리
     @Transactional
     public void deleteMessage(Long messageId, String sender) {
+        // 발행 직후라 아직 저장 대기 중인 메시지면 저장될 때까지 기다린 뒤 조회
+        chatMessageWriter.awaitPersisted(messageId);
         ChatMessage message = chatRepository.findById(messageId)
                 .orElseThrow(() -> new IllegalArgumentException("메시지를 찾을 수 없습니다."));
 
@@ -131,14 +156,56 @@ public class ChatService {
         }
 
         chatRepository.delete(message);
+        TransactionCallbacks.afterCommit(
+                () -> recentChatBuffer.remove(message.getRoomType(), message.getRoomId(), messageId));
+    }
+
+    // 채팅 내역 조회 (최신순) - 첫 페이지는 최근 메시지 버퍼에서 응답
+    public List<ChatMessageResponse> getChatHistory(Long roomId, ChatRoomType roomType, int page, int size) {
+        if (recentChatBuffer.covers(page, size)) {
+            return recentChatBuffer.getRecent(roomType, roomId, size,
+                    () -> findChatHistory(roomId, roomType, 0, RecentChatBuffer.CAPACITY));
+        }
+        return findChatHistory(roomId, roomType, page, size);
+    }
+
+    // 기준 메시지 이전의 채팅 내역 조회 (최신순, 키셋 페이지네이션)
+    // beforeSentAt이 있으면 클라이언트가 받은 (sentAt, id)를 그대로 커서로 사용 (기준 메시지 조회 없음)
+    // 없으면 기준 메시지를 조회하고, 삭제된 메시지면 ID만으로 이어서 조회
+    public List<ChatMessageResponse> getChatHistoryBefore(Long roomId, ChatRoomType roomType, Long beforeMessageId,
+                                                          LocalDateTime beforeSentAt, int size) {
+        // 기준 메시지가 저장 대기 중이면 저장을 기다림 (먼저 들어온 이전 메시지도 함께 저장됨)
+        chatMessageWriter.awaitPersisted(beforeMessageId);
+        Pageable pageable = PageRequest.ofSize(size);
+
+        List<ChatMessage> messages;
+        if (beforeSentAt != null) {
+            messages = chatRepository.findBefore(roomType, roomId, beforeSentAt, beforeMessageId, pageable);
+        } else {
+            Optional<ChatMessage> cursor = chatRepository.findById(beforeMessageId);
+            if (cursor.isPresent()) {
+                if (!cursor.get().getRoomId().equals(roomId) || !cursor.get().getRoomType().equals(roomType)) {
+                    throw new IllegalArgumentException("다른 방의 메시지는 기준으로 사용할 수 없습니다.");
+                }
+                messages = chatRepository.findBefore(
+                        roomType, roomId, cursor.get().getSentAt(), cursor.get().getId(), pageable);
+            } else {
+                messages = chatRepository.findBeforeId(roomType, roomId, beforeMessageId, pageable);
+            }
+        }
+
+        return messages.stream()
+                .map(ChatMessageResponse::from)
+                .toList();
     }
 
-    @Transactional(readOnly = true)
-    public List<ChatMessage> getChatHistory(Long roomId, ChatRoomType roomType, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "sentAt"));
+    private List<ChatMessageResponse> findChatHistory(Long roomId, ChatRoomType roomType, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
 
-        Slice<ChatMessage> chatSlice = chatRepository.findByRoomIdAndRoomTypeOrderBySentAtDesc(roomId, roomType, pageable);
+        Slice<ChatMessage> chatSlice = chatRepository.findByRoomIdAndRoomTypeOrderBySentAtDescIdDesc(roomId, roomType, pageable);
 
-        return chatSlice.getContent();
+        return chatSlice.getContent().stream()
+                .map(ChatMessageResponse::from)
+                .toList();
     }
 }
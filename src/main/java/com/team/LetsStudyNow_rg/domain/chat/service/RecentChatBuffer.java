@@ -0,0 +1,242 @@
+package com.team.LetsStudyNow_rg.domain.chat.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.dto.ChatMessageResponse;
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 방별 최근 채팅 메시지 버퍼 (방 타입 + 방 ID 기준, 최대 CAPACITY개)
+ *
+ * 방에 들어올 때마다 조회하는 채팅 내역 첫 페이지를 DB 조회 없이 응답하기 위해 사용
+ * - 메시지 저장/삭제/해결 처리 시 함께 갱신
+ * - 처음 조회할 때 DB의 최신 메시지로 채우고, 이후에는 버퍼만으로 응답
+ * - 조회만으로는 메시지가 있는 방에만 버퍼를 만들고, 버퍼는 최대 MAX_ROOMS개 (넘으면 DB로 응답)
+ * - IDLE_EVICT_MS 동안 활동이 없는 방은 제거
+ */
+@Component
+@Slf4j
+public class RecentChatBuffer {
+
+    public static final int CAPACITY = 50;
+    private static final long IDLE_EVICT_MS = 600000; // 10분
+    private static final int MAX_ROOMS = 10_000;
+
+    private static final Comparator<ChatMessageResponse> SENT_ORDER = Comparator
+            .comparing(ChatMessageResponse::getSentAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ChatMessageResponse::getMessageId);
+
+    private final ConcurrentMap<RoomKey, RoomBuffer> buffers = new ConcurrentHashMap<>();
+
+    // 수정/삭제 횟수 (버퍼가 없는 방을 DB에서 읽는 동안의 변경 감지용)
+    private final AtomicLong mutations = new AtomicLong();
+
+    /**
+     * 버퍼로 응답할 수 있는 조회인지 (첫 페이지, CAPACITY 이하)
+     */
+    public boolean covers(int page, int size) {
+        return page == 0 && size <= CAPACITY;
+    }
+
+    /**
+     * 최근 메시지 조회 (최신순)
+     * 버퍼가 비어 있거나 부족하면 loader로 DB의 최신 CAPACITY개를 읽어서 채움
+     *
+     * @param loader DB에서 최신 메시지 CAPACITY개를 최신순으로 읽는 함수
+     */
+    public List<ChatMessageResponse> getRecent(ChatRoomType roomType, Long roomId, int size,
+                                               Supplier<List<ChatMessageResponse>> loader) {
+        RoomKey key = new RoomKey(roomType, roomId);
+        RoomBuffer buffer = buffers.get(key);
+        if (buffer == null) {
+            return loadNewBuffer(key, size, loader);
+        }
+        List<ChatMessageResponse> recent = buffer.recent(size);
+        if (recent != null) {
+            return recent;
+        }
+
+        // DB 조회는 잠금 밖에서 (조회 중에도 새 메시지 추가 가능)
+        long version = buffer.version();
+        List<ChatMessageResponse> latest = loader.get();
+        if (!buffer.load(latest, version)) {
+            log.debug("채팅 버퍼 로딩 중 변경 발생 - DB 결과로 응답, 방: {}/{}", roomType, roomId);
+            return latest.subList(0, Math.min(size, latest.size()));
+        }
+        return buffer.recent(size);
+    }
+
+    /**
+     * 버퍼가 없는 방 조회 - DB에서 읽고, 메시지가 있는 방만 버퍼로 만듦
+     * (아무 방 ID로나 조회해도 빈 방의 버퍼는 생기지 않음)
+     */
+    private List<ChatMessageResponse> loadNewBuffer(RoomKey key, int size,
+                                                    Supplier<List<ChatMessageResponse>> loader) {
+        long mutationsBefore = mutations.get();
+        List<ChatMessageResponse> latest = loader.get();
+        if (!latest.isEmpty() && mutations.get() == mutationsBefore) {
+            RoomBuffer buffer = bufferOf(key);
+            if (buffer != null && buffer.load(latest, 0)) {
+                List<ChatMessageResponse> recent = buffer.recent(size);
+                if (recent != null) {
+                    return recent;
+                }
+            }
+        }
+        return latest.subList(0, Math.min(size, latest.size()));
+    }
+
+    /**
+     * 방 버퍼 조회, 없으면 생성 (버퍼가 MAX_ROOMS개 이상이면 만들지 않고 null)
+     */
+    private RoomBuffer bufferOf(RoomKey key) {
+        RoomBuffer buffer = buffers.get(key);
+        if (buffer != null) {
+            return buffer;
+        }
+        if (buffers.size() >= MAX_ROOMS) {
+            log.debug("채팅 버퍼 최대 방 수 도달 - 버퍼 없이 응답, 방: {}/{}", key.roomType(), key.roomId());
+            return null;
+        }
+        return buffers.computeIfAbsent(key, k -> new RoomBuffer());
+    }
+
+    /**
+     * 새 메시지 추가
+     */
+    public void append(ChatMessageResponse message) {
+        RoomBuffer buffer = bufferOf(new RoomKey(message.getRoomType(), message.getRoomId()));
+        if (buffer != null) {
+            buffer.append(message);
+        }
+    }
+
+    /**
+     * 메시지 상태 변경 반영 (질문 해결, 답변 채택)
+     */
+    public void replace(ChatMessageResponse message) {
+        mutations.incrementAndGet();
+        RoomBuffer buffer = buffers.get(new RoomKey(message.getRoomType(), message.getRoomId()));
+        if (buffer != null) {
+            buffer.replace(message);
+        }
+    }
+
+    /**
+     * 삭제된 메시지 제거
+     */
+    public void remove(ChatRoomType roomType, Long roomId, Long messageId) {
+        mutations.incrementAndGet();
+        RoomBuffer buffer = buffers.get(new RoomKey(roomType, roomId));
+        if (buffer != null) {
+            buffer.remove(messageId);
+        }
+    }
+
+    /**
+     * 활동이 없는 방의 버퍼 제거 (1분마다)
+     */
+    @Scheduled(fixedRate = 60000, initialDelay = 60000)
+    public void evictIdleRooms() {
+        long threshold = System.currentTimeMillis() - IDLE_EVICT_MS;
+        int before = buffers.size();
+        buffers.values().removeIf(buffer -> buffer.lastAccessMillis < threshold);
+        int evicted = before - buffers.size();
+        if (evicted > 0) {
+            log.info("채팅 버퍼 정리 - 제거: {}개, 남은 방: {}개", evicted, buffers.size());
+        }
+    }
+
+    private record RoomKey(ChatRoomType roomType, Long roomId) {
+    }
+
+    /**
+     * 방 하나의 링 버퍼 (오래된 메시지 → 최신 메시지 순서)
+     */
+    private static final class RoomBuffer {
+
+        private final Deque<ChatMessageResponse> messages = new ArrayDeque<>(CAPACITY);
+        private boolean loaded;   // DB의 최신 메시지로 채워졌는지
+        private boolean complete; // 방의 메시지가 전부 버퍼에 있는지 (CAPACITY보다 적은 방)
+        private long version;     // 수정/삭제 횟수 (로딩 중 변경 감지용)
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        synchronized List<ChatMessageResponse> recent(int size) {
+            lastAccessMillis = System.currentTimeMillis();
+            if (!loaded || (messages.size() < size && !complete)) {
+                return null;
+            }
+            List<ChatMessageResponse> recent = new ArrayList<>(Math.min(size, messages.size()));
+            Iterator<ChatMessageResponse> newestFirst = messages.descendingIterator();
+            while (recent.size() < size && newestFirst.hasNext()) {
+                recent.add(newestFirst.next());
+            }
+            return recent;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+
+        /**
+         * DB 조회 결과와 그 사이 추가된 메시지를 합쳐서 채움
+         *
+         * @return 로딩 중 수정/삭제가 있어서 채우지 않았으면 false
+         */
+        synchronized boolean load(List<ChatMessageResponse> latest, long expectedVersion) {
+            if (version != expectedVersion) {
+                return false;
+            }
+            Map<Long, ChatMessageResponse> merged = new LinkedHashMap<>();
+            latest.forEach(message -> merged.put(message.getMessageId(), message));
+            messages.forEach(message -> merged.put(message.getMessageId(), message));
+
+            List<ChatMessageResponse> sorted = new ArrayList<>(merged.values());
+            sorted.sort(SENT_ORDER);
+            messages.clear();
+            messages.addAll(sorted.subList(Math.max(0, sorted.size() - CAPACITY), sorted.size()));
+
+            loaded = true;
+            complete = latest.size() < CAPACITY && sorted.size() <= CAPACITY;
+            return true;
+        }
+
+        synchronized void append(ChatMessageResponse message) {
+            lastAccessMillis = System.currentTimeMillis();
+            if (messages.size() >= CAPACITY) {
+                messages.pollFirst();
+                complete = false;
+            }
+            messages.addLast(message);
+        }
+
+        synchronized void replace(ChatMessageResponse message) {
+            version++;
+            List<ChatMessageResponse> replaced = new ArrayList<>(messages.size());
+            for (ChatMessageResponse existing : messages) {
+                replaced.add(existing.getMessageId().equals(message.getMessageId()) ? message : existing);
+            }
+            messages.clear();
+            messages.addAll(replaced);
+        }
+
+        synchronized void remove(Long messageId) {
+            version++;
+            messages.removeIf(message -> message.getMessageId().equals(messageId));
+        }
+    }
+}
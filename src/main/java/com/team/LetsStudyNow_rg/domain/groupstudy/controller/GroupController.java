@@ -4,6 +4,7 @@ import com.team.LetsStudyNow_rg.domain.groupstudy.dto.CreateGroupRequest;
 import com.team.LetsStudyNow_rg.domain.groupstudy.dto.GroupMemberResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.dto.GroupResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.service.GroupService;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.PageResponseDto;
 import com.team.LetsStudyNow_rg.global.auth.CustomUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -45,19 +46,20 @@ public class GroupController {
     }
 
     // 전체 그룹 목록
-    @Operation(summary = "전체 그룹 목록", description = "모든 그룹을 조회합니다")
+    @Operation(summary = "전체 그룹 목록", description = "전체 그룹을 페이지 단위로 조회합니다 (최신순, 페이지당 10개)")
     @GetMapping
-    public ResponseEntity<List<GroupResponse>> getAllGroups() {
-        List<GroupResponse> responses = groupService.getAllGroups();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponseDto<GroupResponse>> getAllGroups(
+            @RequestParam(defaultValue = "1") int page) {
+        PageResponseDto<GroupResponse> response = groupService.getAllGroups(page);
+        return ResponseEntity.ok(response);
     }
 
-    // 내가 만든 그룹 목록
-    @Operation(summary = "내 그룹 목록", description = "내가 만든 그룹 목록을 조회합니다")
+    // 내가 속한 그룹 목록
+    @Operation(summary = "내 그룹 목록", description = "내가 만들었거나 참여 중인 그룹 목록을 조회합니다")
     @GetMapping("/my")
     public ResponseEntity<List<GroupResponse>> getMyGroups(@AuthenticationPrincipal CustomUser customUser) {
-        Long leaderId = customUser.id;
-        List<GroupResponse> responses = groupService.getMyGroups(leaderId);
+        Long memberId = customUser.id;
+        List<GroupResponse> responses = groupService.getMyGroups(memberId);
         return ResponseEntity.ok(responses);
     }
 
@@ -4,6 +4,7 @@ import com.team.LetsStudyNow_rg.domain.groupstudy.dto.CreateStudyRoomRequest;
 import com.team.LetsStudyNow_rg.domain.groupstudy.dto.StudyRoomParticipantResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.dto.StudyRoomResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.service.StudyRoomService;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.PageResponseDto;
 import com.team.LetsStudyNow_rg.global.auth.CustomUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -53,12 +54,13 @@ public class StudyRoomController {
         return ResponseEntity.ok(responses);
     }
 
-    // 전체 활성화된 스터디방 목록
-    @Operation(summary = "전체 스터디방 목록", description = "진행 중인 모든 스터디 방 목록을 조회합니다")
+    // 전체 활성화된 스터디방 목록 (페이지 단위)
+    @Operation(summary = "전체 스터디방 목록", description = "진행 중인 스터디 방 목록을 최신순으로 10개씩 조회합니다 (페이지는 1부터 시작)")
     @GetMapping
-    public ResponseEntity<List<StudyRoomResponse>> getAllRooms() {
-        List<StudyRoomResponse> responses = studyRoomService.getAllActiveRooms();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PageResponseDto<StudyRoomResponse>> getAllRooms(
+            @RequestParam(defaultValue = "1") int page) {
+        PageResponseDto<StudyRoomResponse> response = studyRoomService.getActiveRooms(page);
+        return ResponseEntity.ok(response);
     }
 
     // 스터디방 입장 (SRS 6.5.1)
@@ -20,6 +20,9 @@ public class Group {
     @Column(nullable = false)
     private LocalDateTime createdAt; // 생성일시
 
+    @Column(nullable = false)
+    private long memberCount; // 그룹 참여자 수 (group_members 행 수, 조건부 UPDATE로만 갱신)
+
     // 기본 생성자
     protected Group() {
     }
@@ -29,6 +32,7 @@ public class Group {
         this.groupName = groupName;
         this.leaderId = leaderId;
         this.createdAt = LocalDateTime.now();
+        this.memberCount = 1; // 생성자는 자동으로 멤버가 됨
     }
 
     // Getter
@@ -47,4 +51,8 @@ public class Group {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
 }
@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "group_members") //
+@Table(name = "group_members", indexes = {
+        // 그룹별 멤버 조회/집계, 특정 멤버의 그룹 가입 여부 확인
+        @Index(name = "idx_group_members_group_member", columnList = "group_id, member_id"),
+        // 내가 속한 그룹 목록 조회
+        @Index(name = "idx_group_members_member", columnList = "member_id")
+})
 public class GroupMember {
 
     @Id
@@ -1,10 +1,18 @@
 package com.team.LetsStudyNow_rg.domain.groupstudy.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "study_rooms")
+@DynamicUpdate  // 현재 인원은 조건부 UPDATE로만 갱신 - 엔티티 변경 시 변경된 컬럼만 UPDATE
+@Table(name = "study_rooms", indexes = {
+        // 만료된 활성 방 조회 (status = 'ACTIVE' AND end_time <= now)
+        @Index(name = "idx_study_rooms_status_end_time", columnList = "status, end_time"),
+        // 활성 방 목록 페이지 조회 (최신순)
+        @Index(name = "idx_study_rooms_status_created", columnList = "status, created_at")
+})
 public class StudyRoom {
 
     @Id
@@ -105,21 +113,6 @@ public class StudyRoom {
         return status;
     }
 
-    // 스터디방 입장 (인원 자동 증가)
-    public void addParticipant() {
-        if (currentMembers >= maxMembers) {
-            throw new IllegalStateException("최대 인원에 도달하여 입장이 불가합니다");
-        }
-        this.currentMembers++;
-    }
-
-    // 스터디방 퇴장 (인원 자동 감소)
-    public void removeParticipant() {
-        if (currentMembers > 0) {
-            this.currentMembers--;
-        }
-    }
-
     // 스터디방 종료
     public void end() {
         this.status = "ENDED";
@@ -15,21 +15,13 @@ public class GroupResponse {
     public GroupResponse() {
     }
 
-    // Entity → DTO 변환 생성자
+    // Entity → DTO 변환 생성자 (참여자 수는 그룹의 카운터 컬럼 사용)
     public GroupResponse(Group group) {
         this.id = group.getId();
         this.groupName = group.getGroupName();
         this.leaderId = group.getLeaderId();
         this.createdAt = group.getCreatedAt();
-    }
-
-    // Entity + memberCount → DTO 변환 생성자
-    public GroupResponse(Group group, Long memberCount) {
-        this.id = group.getId();
-        this.groupName = group.getGroupName();
-        this.leaderId = group.getLeaderId();
-        this.createdAt = group.getCreatedAt();
-        this.memberCount = memberCount;
+        this.memberCount = group.getMemberCount();
     }
 
     // Getter
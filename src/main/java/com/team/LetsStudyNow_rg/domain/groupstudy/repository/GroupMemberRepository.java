@@ -2,6 +2,9 @@ package com.team.LetsStudyNow_rg.domain.groupstudy.repository;
 
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.GroupMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +22,8 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     // 그룹의 멤버 수 카운트
     long countByGroupId(Long groupId);
 
-    // 멤버 삭제
-    void deleteByGroupIdAndMemberId(Long groupId, Long memberId);
+    // 멤버 삭제 - 삭제된 행 수 반환 (동시에 추방된 경우 0)
+    @Modifying
+    @Query("DELETE FROM GroupMember m WHERE m.groupId = :groupId AND m.memberId = :memberId")
+    int deleteByGroupIdAndMemberId(@Param("groupId") Long groupId, @Param("memberId") Long memberId);
 }
\ No newline at end of file
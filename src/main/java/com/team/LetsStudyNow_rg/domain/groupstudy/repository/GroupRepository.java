@@ -1,7 +1,12 @@
 package com.team.LetsStudyNow_rg.domain.groupstudy.repository;
 
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.Group;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +20,41 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
     // 그룹 이름으로 찾기
     Optional<Group> findByGroupName(String groupName);
-}
\ No newline at end of file
+
+    // 전체 그룹 목록 페이지 조회 (최신순, 참여자 수는 카운터 컬럼)
+    Page<Group> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    // 내가 속한 그룹 목록 조회 (최신순, 참여자 수는 카운터 컬럼)
+    @Query("SELECT g FROM GroupMember m JOIN Group g ON g.id = m.groupId " +
+           "WHERE m.memberId = :memberId " +
+           "ORDER BY g.createdAt DESC, g.id DESC")
+    List<Group> findByMemberId(@Param("memberId") Long memberId);
+
+    // 참여자 수 증가 (멤버 행 추가와 같은 트랜잭션에서 호출)
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount + 1 WHERE g.id = :groupId")
+    int increaseMemberCount(@Param("groupId") Long groupId);
+
+    // 참여자 수 감소 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount - 1 WHERE g.id = :groupId AND g.memberCount > 0")
+    int decreaseMemberCount(@Param("groupId") Long groupId);
+
+    // 그룹 삭제 - 생성자 외 다른 멤버가 없을 때만 (삭제되지 않으면 0 반환)
+    @Modifying
+    @Query("DELETE FROM Group g WHERE g.id = :groupId AND g.memberCount <= 1")
+    int deleteIfNoOtherMembers(@Param("groupId") Long groupId);
+
+    // 참여자 수 보정용 ID 배치 조회 (ID 순 커서)
+    @Query("SELECT g.id FROM Group g WHERE g.id > :afterId ORDER BY g.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 카운터가 실제 멤버 행 수와 다른 그룹만 보정 - 보정된 그룹 수 반환
+    @Modifying
+    @Query(value = "UPDATE study_groups g " +
+                   "SET g.member_count = (SELECT COUNT(*) FROM group_members m WHERE m.group_id = g.id) " +
+                   "WHERE g.id BETWEEN :fromId AND :toId " +
+                   "AND g.member_count <> (SELECT COUNT(*) FROM group_members m WHERE m.group_id = g.id)",
+           nativeQuery = true)
+    int reconcileMemberCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
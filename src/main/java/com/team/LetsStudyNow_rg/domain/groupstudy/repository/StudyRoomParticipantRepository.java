@@ -2,6 +2,9 @@ package com.team.LetsStudyNow_rg.domain.groupstudy.repository;
 
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoomParticipant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,9 +22,17 @@ public interface StudyRoomParticipantRepository extends JpaRepository<StudyRoomP
     // 스터디방의 참여자 수
     long countByStudyRoomId(Long studyRoomId);
 
-    // 방 참여자 삭제
-    void deleteByStudyRoomIdAndMemberId(Long studyRoomId, Long memberId);
+    // 방 참여자 삭제 - 삭제된 행 수 반환 (동시에 퇴장 처리된 경우 0)
+    @Modifying
+    @Query("DELETE FROM StudyRoomParticipant p WHERE p.studyRoomId = :studyRoomId AND p.memberId = :memberId")
+    int deleteByStudyRoomIdAndMemberId(@Param("studyRoomId") Long studyRoomId, @Param("memberId") Long memberId);
 
-    // 방 종료 시, 스터디방의 모든 참여자 삭제
-    void deleteByStudyRoomId(Long studyRoomId);
+    // 스터디방의 참여자 회원 ID 목록 (방 종료 시 일괄 정리용)
+    @Query("SELECT p.memberId FROM StudyRoomParticipant p WHERE p.studyRoomId = :studyRoomId")
+    List<Long> findMemberIdsByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
+
+    // 방 종료 시, 스터디방의 모든 참여자 삭제 (DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM StudyRoomParticipant p WHERE p.studyRoomId = :studyRoomId")
+    int deleteAllByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
 }
\ No newline at end of file
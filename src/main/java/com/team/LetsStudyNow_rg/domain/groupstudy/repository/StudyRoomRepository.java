@@ -1,9 +1,16 @@
 package com.team.LetsStudyNow_rg.domain.groupstudy.repository;
 
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoom;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,6 +22,39 @@ public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
     // 그룹의 활성화된 스터디방만 조회
     List<StudyRoom> findByGroupIdAndStatus(Long groupId, String status);
 
+    // 상태별 스터디방 조회
+    List<StudyRoom> findByStatus(String status);
+
+    // 상태별 스터디방 페이지 조회 (idx_study_rooms_status_created)
+    Page<StudyRoom> findByStatusOrderByCreatedAtDesc(String status, Pageable pageable);
+
+    // 종료 시간이 지난 활성 스터디방 조회 (idx_study_rooms_status_end_time)
+    @Query("SELECT r FROM StudyRoom r WHERE r.status = 'ACTIVE' AND r.endTime <= :now ORDER BY r.endTime")
+    Slice<StudyRoom> findExpiredActiveRooms(@Param("now") LocalDateTime now, Pageable pageable);
+
     // 생성자가 만든 스터디방 조회
     List<StudyRoom> findByCreatorId(Long creatorId);
+
+    // 방이 속한 그룹의 멤버인지 확인 - 방 엔티티를 읽지 않고 조회 한 번 (idx_group_members_group_member)
+    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
+           "FROM StudyRoom r JOIN GroupMember m ON m.groupId = r.groupId " +
+           "WHERE r.id = :roomId AND m.memberId = :memberId")
+    boolean isMemberOfRoomGroup(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
+
+    // 입장 - 활성 상태이고 종료 시간 전이며 정원 미달일 때만 인원 증가 (입장 불가면 0 반환)
+    @Modifying
+    @Query("UPDATE StudyRoom r SET r.currentMembers = r.currentMembers + 1 " +
+           "WHERE r.id = :roomId AND r.status = 'ACTIVE' AND r.endTime > :now " +
+           "AND r.currentMembers < r.maxMembers")
+    int increaseCurrentMembers(@Param("roomId") Long roomId, @Param("now") LocalDateTime now);
+
+    // 퇴장 - 인원 감소 (0 아래로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE StudyRoom r SET r.currentMembers = r.currentMembers - 1 " +
+           "WHERE r.id = :roomId AND r.currentMembers > 0")
+    int decreaseCurrentMembers(@Param("roomId") Long roomId);
+
+    // 현재 인원만 조회 (조건부 UPDATE 이후 최신 값)
+    @Query("SELECT r.currentMembers FROM StudyRoom r WHERE r.id = :roomId")
+    int findCurrentMembersById(@Param("roomId") Long roomId);
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.team.LetsStudyNow_rg.domain.groupstudy.scheduler;
+
+import com.team.LetsStudyNow_rg.domain.groupstudy.service.GroupService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 참여자 수 카운터 보정 스케줄러
+ *
+ * 참여자 수는 멤버 추가/추방 시 조건부 UPDATE로 갱신되지만,
+ * 직접 DB 수정이나 컬럼 추가 이전 데이터 등으로 실제 멤버 행 수와 어긋날 수 있음
+ * 그룹을 ID 순으로 배치 단위로 훑으면서 어긋난 그룹만 보정 (배치마다 별도 트랜잭션)
+ *
+ * 애플리케이션 시작 시 요청을 받기 전에 한 번 전체 보정
+ * (컬럼 추가 직후 기존 그룹은 0으로 시작하므로, 보정 전에 삭제 요청이 오면 멤버가 있는 그룹도 삭제될 수 있음)
+ *
+ * 실행 주기: 1시간마다
+ * 시작 지연: 1시간 (시작 시 보정 이후)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GroupMemberCountReconcileScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final GroupService groupService;
+
+    /**
+     * 시작 시 보정 (웹 서버 시작 전에 실행)
+     * 실패하면 카운터를 믿을 수 없으므로 애플리케이션 시작도 실패시킴
+     */
+    @PostConstruct
+    public void reconcileOnStartup() {
+        reconcileAll();
+        log.info("그룹 참여자 수 시작 보정 완료");
+    }
+
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    public void reconcileMemberCounts() {
+        log.debug("=== 그룹 참여자 수 보정 시작 ===");
+
+        try {
+            reconcileAll();
+        } catch (Exception e) {
+            // 다음 실행 주기에 처음부터 다시 보정
+            log.error("그룹 참여자 수 보정 중 오류 발생: {}", e.getMessage(), e);
+        }
+
+        log.debug("=== 그룹 참여자 수 보정 종료 ===");
+    }
+
+    private void reconcileAll() {
+        Long afterId = 0L;
+        while (afterId != null) {
+            afterId = groupService.reconcileMemberCounts(afterId, BATCH_SIZE);
+        }
+    }
+}
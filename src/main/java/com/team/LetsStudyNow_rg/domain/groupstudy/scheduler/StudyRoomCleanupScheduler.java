@@ -1,14 +1,21 @@
 package com.team.LetsStudyNow_rg.domain.groupstudy.scheduler;
 
+import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoom;
 import com.team.LetsStudyNow_rg.domain.groupstudy.service.StudyRoomService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler.DeadlineType;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 그룹 스터디 방 자동 종료 스케줄러
- * Spring의 @Scheduled를 사용하여 주기적으로 실행
  * 
  * 주요 기능:
  * - 설정된 studyHours(1~5시간)가 끝난 방 자동 종료
@@ -16,8 +23,13 @@ import org.springframework.stereotype.Component;
  * - 세션 종료 및 레벨업 처리
  * - PersonalTimer 종료 처리
  * 
- * 실행 주기: 1분마다 (60초)
- * 시작 지연: 30초 (애플리케이션 시작 후 안정화 시간 확보)
+ * 종료는 RoomDeadlineScheduler가 방마다 endTime에 정확히 실행
+ * - 방 생성 시 StudyRoomService가 마감 등록
+ * - 애플리케이션 시작 시 DB 기준으로 마감 복구
+ * 
+ * 아래 @Scheduled 메서드는 마감 처리 실패 등으로 남은 방을 정리하는 안전장치
+ * 실행 주기: 10분마다
+ * 시작 지연: 1분 (애플리케이션 시작 후 안정화 시간 확보)
  */
 @Component
 @RequiredArgsConstructor
@@ -25,13 +37,40 @@ import org.springframework.stereotype.Component;
 public class StudyRoomCleanupScheduler {
     
     private final StudyRoomService studyRoomService;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    
+    /**
+     * 그룹 방 종료 핸들러 등록
+     */
+    @PostConstruct
+    public void registerDeadlineHandler() {
+        deadlineScheduler.registerHandler(DeadlineType.GROUP_END, studyRoomService::autoEndRoomIfExpired);
+    }
+    
+    /**
+     * 애플리케이션 시작 시 활성 방의 종료 마감 복구
+     * 이미 지난 마감은 즉시 실행됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreDeadlines() {
+        try {
+            List<StudyRoom> activeRooms = studyRoomService.getActiveRoomsForDeadline();
+            for (StudyRoom room : activeRooms) {
+                deadlineScheduler.schedule(DeadlineType.GROUP_END, room.getId(), room.getEndTime());
+            }
+            log.info("그룹 스터디 방 마감 복구 완료 - {}개", activeRooms.size());
+        } catch (Exception e) {
+            // 복구 실패 시 안전장치 스케줄러가 처리
+            log.error("그룹 스터디 방 마감 복구 중 오류: {}", e.getMessage(), e);
+        }
+    }
     
     /**
      * 시간 만료된 그룹 스터디 방 자동 종료
      * 
-     * 실행 조건:
-     * - 매 1분마다 실행 (fixedRate = 60000ms)
-     * - 애플리케이션 시작 30초 후부터 실행 (initialDelay = 30000ms)
+     * 실행 조건 (안전장치):
+     * - 매 10분마다 실행 (fixedRate = 600000ms)
+     * - 애플리케이션 시작 1분 후부터 실행 (initialDelay = 60000ms)
      * 
      * 동작 과정:
      * 1. status가 "ACTIVE"이고 endTime이 현재 시간을 지난 방 조회
@@ -49,7 +88,7 @@ public class StudyRoomCleanupScheduler {
      * - INFO: 만료된 방 발견 시
      * - ERROR: 예외 발생 시
      */
-    @Scheduled(fixedRate = 60000, initialDelay = 30000)
+    @Scheduled(fixedRate = 600000, initialDelay = 60000)
     public void autoEndExpiredRooms() {
         log.debug("=== 그룹 스터디 방 자동 종료 확인 시작 ===");
         
@@ -46,6 +46,10 @@ public class GroupMemberService {
                 "MEMBER"
         );
         GroupMember saved = groupMemberRepository.save(member);
+        // 조회 후 그룹이 삭제된 경우 - 예외로 멤버 행 추가도 롤백
+        if (groupRepository.increaseMemberCount(request.getGroupId()) == 0) {
+            throw new IllegalArgumentException("그룹을 찾을 수 없습니다");
+        }
 
         return new GroupMemberResponse(saved);
     }
@@ -79,7 +83,9 @@ public class GroupMemberService {
         GroupMember member = groupMemberRepository.findByGroupIdAndMemberId(groupId, memberId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 멤버를 찾을 수 없습니다"));
 
-        // 멤버 삭제
-        groupMemberRepository.deleteByGroupIdAndMemberId(groupId, memberId);
+        // 멤버 삭제 (실제로 삭제한 요청만 참여자 수 감소)
+        if (groupMemberRepository.deleteByGroupIdAndMemberId(groupId, memberId) > 0) {
+            groupRepository.decreaseMemberCount(groupId);
+        }
     }
 }
\ No newline at end of file
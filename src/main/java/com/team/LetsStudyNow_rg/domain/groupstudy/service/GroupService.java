@@ -7,6 +7,10 @@ import com.team.LetsStudyNow_rg.domain.groupstudy.dto.GroupMemberResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.dto.GroupResponse;
 import com.team.LetsStudyNow_rg.domain.groupstudy.repository.GroupMemberRepository;
 import com.team.LetsStudyNow_rg.domain.groupstudy.repository.GroupRepository;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.PageResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +18,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @Transactional(readOnly = true)  // 읽기 전용 (기본)
 public class GroupService {
 
+    private static final int GROUP_PAGE_SIZE = 10;
+
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
 
@@ -46,37 +53,32 @@ public class GroupService {
         groupMemberRepository.save(leaderMember);
 
         // 5. 응답 반환 (생성 직후에는 참여자 수 1 - 생성자)
-        return new GroupResponse(savedGroup, 1L);
+        return new GroupResponse(savedGroup);
     }
 
     // 그룹 조회 (참여자 수 포함)
     public GroupResponse getGroup(Long groupId) {
         Group group = groupRepository.findById(groupId)
                 .orElseThrow(() -> new IllegalArgumentException("그룹을 찾을 수 없습니다"));
-        Long memberCount = groupMemberRepository.countByGroupId(groupId);
-        return new GroupResponse(group, memberCount);
+        return new GroupResponse(group);
     }
 
-    // 내가 만든 그룹 목록 (참여자 수 포함)
-    public List<GroupResponse> getMyGroups(Long leaderId) {
-        List<Group> groups = groupRepository.findByLeaderId(leaderId);
-        return groups.stream()
-                .map(group -> {
-                    Long memberCount = groupMemberRepository.countByGroupId(group.getId());
-                    return new GroupResponse(group, memberCount);
-                })
+    // 내가 속한 그룹 목록 (참여자 수 포함)
+    public List<GroupResponse> getMyGroups(Long memberId) {
+        return groupRepository.findByMemberId(memberId).stream()
+                .map(GroupResponse::new)
                 .collect(Collectors.toList());
     }
 
-    // 전체 그룹 목록 (참여자 수 포함)
-    public List<GroupResponse> getAllGroups() {
-        List<Group> groups = groupRepository.findAll();
-        return groups.stream()
-                .map(group -> {
-                    Long memberCount = groupMemberRepository.countByGroupId(group.getId());
-                    return new GroupResponse(group, memberCount);
-                })
-                .collect(Collectors.toList());
+    // 전체 그룹 목록 페이지 조회 (참여자 수 포함)
+    public PageResponseDto<GroupResponse> getAllGroups(int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다");
+        }
+        Page<GroupResponse> groupPage = groupRepository
+                .findAllByOrderByCreatedAtDescIdDesc(PageRequest.of(page - 1, GROUP_PAGE_SIZE))
+                .map(GroupResponse::new);
+        return PageResponseDto.of(groupPage, page);
     }
 
     // 그룹 삭제 (SRS 6.2.4, 6.2.6)
@@ -90,13 +92,28 @@ public class GroupService {
             throw new IllegalArgumentException("그룹 생성자만 그룹을 삭제할 수 있습니다");
         }
 
-        // 멤버 수 확인 (SRS 6.2.6 그룹 생성자 외 다른 멤버 없어야 함)
-        long memberCount = groupMemberRepository.countByGroupId(groupId);
-        if (memberCount > 1) {
+        // 삭제 (SRS 6.2.6 그룹 생성자 외 다른 멤버 없어야 함)
+        // 참여자 수 조건을 DELETE에 포함해서 확인과 삭제 사이에 멤버가 추가되는 경우도 막음
+        if (groupRepository.deleteIfNoOtherMembers(groupId) == 0) {
             throw new IllegalArgumentException("그룹에 다른 멤버가 있으면 삭제할 수 없습니다");
         }
+    }
+
+    // 참여자 수 카운터 보정 (보정 스케줄러에서 시작 시 한 번, 이후 주기적으로 호출)
+    // afterId 다음 그룹부터 batchSize개를 실제 멤버 행 수와 비교해서 다른 것만 갱신
+    // 반환: 이번 배치의 마지막 그룹 ID (더 이상 없으면 null)
+    @Transactional
+    public Long reconcileMemberCounts(Long afterId, int batchSize) {
+        List<Long> groupIds = groupRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+        if (groupIds.isEmpty()) {
+            return null;
+        }
 
-        // 삭제
-        groupRepository.deleteById(groupId);
+        Long lastId = groupIds.get(groupIds.size() - 1);
+        int repaired = groupRepository.reconcileMemberCounts(groupIds.get(0), lastId);
+        if (repaired > 0) {
+            log.warn("그룹 참여자 수 보정 - 그룹 ID {}~{}: {}개", groupIds.get(0), lastId, repaired);
+        }
+        return lastId;
     }
 }
@@ -1,5 +1,6 @@
 package com.team.LetsStudyNow_rg.domain.groupstudy.service;
 
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.Group;
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoom;
 import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoomParticipant;
@@ -10,10 +11,28 @@ import com.team.LetsStudyNow_rg.domain.groupstudy.repository.GroupMemberReposito
 import com.team.LetsStudyNow_rg.domain.groupstudy.repository.GroupRepository;
 import com.team.LetsStudyNow_rg.domain.groupstudy.repository.StudyRoomParticipantRepository;
 import com.team.LetsStudyNow_rg.domain.groupstudy.repository.StudyRoomRepository;
+import com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary;
+import com.team.LetsStudyNow_rg.domain.member.service.MemberSummaryCache;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.MemberPresenceService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler.DeadlineType;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomLifecycleEngine;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomLifecyclePolicy;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomPresencePublisher;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomTeardownService;
 import lombok.extern.slf4j.Slf4j;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.PageResponseDto;
+import com.team.LetsStudyNow_rg.global.cache.TtlCache;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,26 +41,49 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StudyRoomService {
 
+    private static final int ACTIVE_ROOM_PAGE_SIZE = 10;
+    private static final int EXPIRED_ROOM_BATCH_SIZE = 100;
+    private static final int MAX_EXPIRED_ROOM_BATCHES = 50;
+
     private final StudyRoomRepository studyRoomRepository;
     private final StudyRoomParticipantRepository participantRepository;
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final com.team.LetsStudyNow_rg.domain.studyroom.service.StudySessionService studySessionService;
-    private final com.team.LetsStudyNow_rg.domain.timer.service.PersonalTimerService personalTimerService;
+    private final RoomPresencePublisher presencePublisher;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    private final RoomTeardownService roomTeardownService;
+    private final MemberPresenceService memberPresenceService;
+    private final RoomLifecycleEngine lifecycleEngine;
+    private final MemberSummaryCache memberSummaryCache;
+
+    // 입장/퇴장 시 그룹 스터디 규칙 (인원, 참여자 행, 예외)
+    private final RoomLifecyclePolicy lifecyclePolicy = new GroupStudyRoomLifecyclePolicy();
+
+    // 활성 방 목록 페이지 캐시 (페이지 번호 → 응답)
+    private final TtlCache<Integer, PageResponseDto<StudyRoomResponse>> activeRoomPageCache =
+            new TtlCache<>(Duration.ofSeconds(5), 100);
 
     // 생성자 주입
     public StudyRoomService(StudyRoomRepository studyRoomRepository,
                             StudyRoomParticipantRepository participantRepository,
                             GroupRepository groupRepository,
                             GroupMemberRepository groupMemberRepository,
-                            com.team.LetsStudyNow_rg.domain.studyroom.service.StudySessionService studySessionService,
-                            com.team.LetsStudyNow_rg.domain.timer.service.PersonalTimerService personalTimerService) {
+                            RoomPresencePublisher presencePublisher,
+                            RoomDeadlineScheduler deadlineScheduler,
+                            RoomTeardownService roomTeardownService,
+                            MemberPresenceService memberPresenceService,
+                            RoomLifecycleEngine lifecycleEngine,
+                            MemberSummaryCache memberSummaryCache) {
         this.studyRoomRepository = studyRoomRepository;
         this.participantRepository = participantRepository;
         this.groupRepository = groupRepository;
         this.groupMemberRepository = groupMemberRepository;
-        this.studySessionService = studySessionService;
-        this.personalTimerService = personalTimerService;
+        this.presencePublisher = presencePublisher;
+        this.deadlineScheduler = deadlineScheduler;
+        this.roomTeardownService = roomTeardownService;
+        this.memberPresenceService = memberPresenceService;
+        this.lifecycleEngine = lifecycleEngine;
+        this.memberSummaryCache = memberSummaryCache;
     }
 
     // 스터디방 생성 (SRS 6.1.1~6.1.8)
@@ -86,22 +128,13 @@ public class StudyRoomService {
         );
         StudyRoom savedRoom = studyRoomRepository.save(studyRoom);
 
+
         // 8. 방 생성자는 자동 입장 (SRS 6.1.8)
-        StudyRoomParticipant participant = new StudyRoomParticipant(
-                savedRoom.getId(),
-                creatorId
-        );
-        participantRepository.save(participant);
+        // 입장 기록, 참여자 추가, 공부 세션/타이머 시작 - 이미 다른 방에 있으면 방 생성도 롤백
+        lifecycleEngine.joinAsCreator(lifecyclePolicy, savedRoom.getId(), creatorId);
 
-        // ✅ 공부 세션 시작
-        studySessionService.startStudySession(creatorId, "GROUP_STUDY", savedRoom.getId());
-        
-        // ✅ PersonalTimer 자동 시작 (공부 상태로 시작)
-        try {
-            personalTimerService.startTimer(creatorId, savedRoom.getId(), true);
-        } catch (IllegalStateException e) {
-            // 이미 활성 타이머가 있는 경우 무시 (로그는 PersonalTimerService에서 처리)
-        }
+        evictActiveRoomPages();
+        deadlineScheduler.schedule(DeadlineType.GROUP_END, savedRoom.getId(), savedRoom.getEndTime());
 
         return new StudyRoomResponse(savedRoom);
     }
@@ -121,58 +154,40 @@ public class StudyRoomService {
                 .collect(Collectors.toList());
     }
 
-    // 전체 활성화된 스터디방 목록
-    public List<StudyRoomResponse> getAllActiveRooms() {
-        List<StudyRoom> rooms = studyRoomRepository.findAll().stream()
-                .filter(room -> "ACTIVE".equals(room.getStatus()))
-                .collect(Collectors.toList());
-        return rooms.stream()
-                .map(StudyRoomResponse::new)
-                .collect(Collectors.toList());
+    // 전체 활성화된 스터디방 목록 (페이지 단위, 최신순)
+    // 짧은 시간 캐시 - 방 생성/입장/퇴장/종료 시 무효화
+    public PageResponseDto<StudyRoomResponse> getActiveRooms(int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("페이지 번호는 1 이상이어야 합니다");
+        }
+        return activeRoomPageCache.get(page, key -> {
+            Page<StudyRoomResponse> roomPage = studyRoomRepository
+                    .findByStatusOrderByCreatedAtDesc("ACTIVE", PageRequest.of(page - 1, ACTIVE_ROOM_PAGE_SIZE))
+                    .map(StudyRoomResponse::new);
+            return PageResponseDto.of(roomPage, page);
+        });
+    }
+
+    private void evictActiveRoomPages() {
+        TransactionCallbacks.afterCommit(activeRoomPageCache::invalidateAll);
     }
 
     // 스터디방 입장 (SRS 6.5.1)
     @Transactional
     public void joinRoom(Long roomId, Long memberId) {
-        // 1. 스터디방 존재 확인
-        StudyRoom room = studyRoomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("스터디 방을 찾을 수 없습니다"));
-
-        // 2. 그룹 멤버인지 확인 (SRS 6.5.2)
-        groupMemberRepository.findByGroupIdAndMemberId(room.getGroupId(), memberId)
-                .orElseThrow(() -> new IllegalArgumentException("그룹 멤버만 입장할 수 있습니다"));
-
-        // 3. 이미 입장했는지 확인
-        if (participantRepository.findByStudyRoomIdAndMemberId(roomId, memberId).isPresent()) {
-            throw new IllegalArgumentException("이미 입장한 방입니다");
-        }
-
-        // 4. 최대 인원 확인 (SRS 6.4.4, 6.5.5)
-        if (room.isFull()) {
-            throw new IllegalArgumentException("최대 인원에 도달하여 입장이 불가합니다");
-        }
-
-        // 5. 방 종료 여부 확인
-        if (room.isEnded()) {
-            throw new IllegalArgumentException("이미 종료된 스터디 방입니다");
+        // 1. 그룹 멤버인지 확인 (SRS 6.5.2) - 실패한 경우에만 방 존재 여부로 예외 구분
+        if (!studyRoomRepository.isMemberOfRoomGroup(roomId, memberId)) {
+            if (!studyRoomRepository.existsById(roomId)) {
+                throw new IllegalArgumentException("스터디 방을 찾을 수 없습니다");
+            }
+            throw new IllegalArgumentException("그룹 멤버만 입장할 수 있습니다");
         }
 
-        // 6. 입장 처리
-        room.addParticipant();
-        studyRoomRepository.save(room);
-
-        StudyRoomParticipant participant = new StudyRoomParticipant(roomId, memberId);
-        participantRepository.save(participant);
-
-        // ✅ 공부 세션 시작
-        studySessionService.startStudySession(memberId, "GROUP_STUDY", roomId);
-        
-        // ✅ PersonalTimer 자동 시작 (공부 상태로 시작)
-        try {
-            personalTimerService.startTimer(memberId, roomId, false);
-        } catch (IllegalStateException e) {
-            // 이미 활성 타이머가 있는 경우 무시 (로그는 PersonalTimerService에서 처리)
-        }
+        // 2. 입장 처리 (입장 기록, 인원 반영, 참여자 추가, 공부 세션/타이머 시작, 입장 이벤트)
+        // 최대 인원/종료 여부는 인원 반영(admit)의 조건부 UPDATE에서 확인 (SRS 6.4.4, 6.5.5)
+        // 입장 이벤트에 닉네임/프로필을 담아 클라이언트가 참여자 목록을 다시 조회하지 않도록 함 (회원 요약 캐시)
+        MemberSummary member = memberSummaryCache.get(memberId);
+        lifecycleEngine.join(lifecyclePolicy, roomId, memberId, member.username(), member.profileImage());
     }
 
     // 스터디방 퇴장
@@ -186,29 +201,8 @@ public class StudyRoomService {
             throw new IllegalArgumentException("방 생성자는 방을 나갈 수 없습니다. 방 삭제를 이용해주세요.");
         }
 
-        // 참여자 확인
-        participantRepository.findByStudyRoomIdAndMemberId(roomId, memberId)
-                .orElseThrow(() -> new IllegalArgumentException("참여하지 않은 방입니다"));
-
-        // ✅ 공부 세션 종료 (레벨업 처리)
-        com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-            studySessionService.getActiveSession(memberId);
-        if (activeSession != null) {
-            studySessionService.endStudySession(activeSession.getId());
-        }
-        
-        // ✅ PersonalTimer 종료
-        try {
-            personalTimerService.endTimer(memberId);
-        } catch (IllegalArgumentException e) {
-            // 활성 타이머가 없는 경우 무시
-        }
-
-        // 퇴장 처리
-        room.removeParticipant();
-        studyRoomRepository.save(room);
-
-        participantRepository.deleteByStudyRoomIdAndMemberId(roomId, memberId);
+        // 퇴장 처리 (참여자 삭제, 공부 세션/타이머 종료 및 레벨업, 인원 반영, 퇴장 이벤트)
+        lifecycleEngine.leave(lifecyclePolicy, roomId, memberId);
     }
 
     // 스터디방 종료 (SRS 6.1.9, 6.5.3)
@@ -219,85 +213,83 @@ public class StudyRoomService {
 
         log.info("스터디방 종료 시작 - 방ID: {}, 현재인원: {}", roomId, room.getCurrentMembers());
 
-        // ✅ 모든 참여자의 세션과 타이머 종료 (레벨업 처리)
-        List<StudyRoomParticipant> participants = participantRepository.findByStudyRoomId(roomId);
-        for (StudyRoomParticipant participant : participants) {
-            Long memberId = participant.getMemberId();
-            
-            // 공부 세션 종료 (레벨업 처리)
-            com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-                studySessionService.getActiveSession(memberId);
-            if (activeSession != null) {
-                com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                    studySessionService.endStudySession(activeSession.getId());
-                log.info("방 종료 - 참여자 세션 종료 - 회원ID: {}, 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                         memberId, result.studyMinutes(), result.leveledUp(), result.newLevel());
-            }
-            
-            // PersonalTimer 종료
-            try {
-                personalTimerService.endTimer(memberId);
-                log.info("방 종료 - 참여자 타이머 종료 완료 - 회원ID: {}", memberId);
-            } catch (IllegalArgumentException e) {
-                log.warn("방 종료 - 참여자 타이머 종료 실패 (활성 타이머 없음) - 회원ID: {}", memberId);
-            }
-        }
+        // ✅ 모든 참여자의 세션과 타이머 일괄 종료 (레벨업 처리)
+        List<Long> memberIds = participantRepository.findMemberIdsByStudyRoomId(roomId);
+        roomTeardownService.endSessionsAndTimers(memberIds);
 
         // 방 종료
         room.end();
         studyRoomRepository.save(room);
+        evictActiveRoomPages();
 
         // 모든 참여자 자동 퇴장
-        participantRepository.deleteByStudyRoomId(roomId);
+        participantRepository.deleteAllByStudyRoomId(roomId);
+        memberPresenceService.closeRoom(ChatRoomType.GROUP, roomId);
+        deadlineScheduler.cancel(DeadlineType.GROUP_END, roomId);
+        presencePublisher.publishRoomClosed(ChatRoomType.GROUP, roomId);
         
-        log.info("스터디방 종료 완료 - 방ID: {}, 종료된 참여자 수: {}", roomId, participants.size());
+        log.info("스터디방 종료 완료 - 방ID: {}, 종료된 참여자 수: {}", roomId, memberIds.size());
     }
 
-    // 타이머 종료된 방 자동 종료 및 삭제
+    // 활성 스터디방 조회 (종료 마감 복구용)
+    public List<StudyRoom> getActiveRoomsForDeadline() {
+        return studyRoomRepository.findByStatus("ACTIVE");
+    }
+
+    // 마감 시간이 된 방 자동 종료 및 삭제 (마감 스케줄러에서 호출)
     @Transactional
-    public void autoEndExpiredRooms() {
-        List<StudyRoom> activeRooms = studyRoomRepository.findAll().stream()
+    public void autoEndRoomIfExpired(Long roomId) {
+        studyRoomRepository.findById(roomId)
                 .filter(room -> "ACTIVE".equals(room.getStatus()))
                 .filter(StudyRoom::isEnded)
-                .collect(Collectors.toList());
+                .ifPresent(this::endExpiredRoom);
+    }
 
-        for (StudyRoom room : activeRooms) {
-            log.info("시간 만료된 방 자동 종료 시작 - 방ID: {}, 제목: {}", room.getId(), room.getRoomName());
-            
-            // ✅ 모든 참여자의 세션과 타이머 종료 (레벨업 처리)
-            List<StudyRoomParticipant> participants = participantRepository.findByStudyRoomId(room.getId());
-            for (StudyRoomParticipant participant : participants) {
-                Long memberId = participant.getMemberId();
-                
-                // 공부 세션 종료 (레벨업 처리)
-                com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-                    studySessionService.getActiveSession(memberId);
-                if (activeSession != null) {
-                    com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                        studySessionService.endStudySession(activeSession.getId());
-                    log.info("시간 만료 방 종료 - 참여자 세션 종료 - 회원ID: {}, 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                             memberId, result.studyMinutes(), result.leveledUp(), result.newLevel());
-                }
-                
-                // PersonalTimer 종료
-                try {
-                    personalTimerService.endTimer(memberId);
-                    log.info("시간 만료 방 종료 - 참여자 타이머 종료 완료 - 회원ID: {}", memberId);
-                } catch (IllegalArgumentException e) {
-                    log.warn("시간 만료 방 종료 - 참여자 타이머 종료 실패 (활성 타이머 없음) - 회원ID: {}", memberId);
-                }
+    // 타이머 종료된 방 자동 종료 및 삭제 (마감 처리에서 누락된 방 정리용)
+    // 만료된 방만 인덱스로 조회해서 배치 단위로 처리 (처리된 방은 삭제되므로 항상 첫 배치를 다시 조회)
+    @Transactional
+    public void autoEndExpiredRooms() {
+        LocalDateTime now = LocalDateTime.now();
+        Pageable firstBatch = PageRequest.of(0, EXPIRED_ROOM_BATCH_SIZE);
+        int endedCount = 0;
+
+        for (int batch = 0; batch < MAX_EXPIRED_ROOM_BATCHES; batch++) {
+            Slice<StudyRoom> expiredRooms = studyRoomRepository.findExpiredActiveRooms(now, firstBatch);
+            for (StudyRoom room : expiredRooms) {
+                endExpiredRoom(room);
             }
-            
-            // 모든 참여자 삭제
-            participantRepository.deleteByStudyRoomId(room.getId());
-            
-            // 방 완전 삭제
-            studyRoomRepository.delete(room);
-            
-            log.info("시간 만료된 방 자동 종료 완료 - 방ID: {}, 종료된 참여자 수: {}", room.getId(), participants.size());
+            endedCount += expiredRooms.getNumberOfElements();
+
+            if (!expiredRooms.hasNext()) {
+                break;
+            }
+        }
+
+        if (endedCount > 0) {
+            log.info("시간 만료된 방 일괄 종료 - {}개", endedCount);
         }
     }
 
+    private void endExpiredRoom(StudyRoom room) {
+        log.info("시간 만료된 방 자동 종료 시작 - 방ID: {}, 제목: {}", room.getId(), room.getRoomName());
+        
+        // ✅ 모든 참여자의 세션과 타이머 일괄 종료 (레벨업 처리)
+        List<Long> memberIds = participantRepository.findMemberIdsByStudyRoomId(room.getId());
+        roomTeardownService.endSessionsAndTimers(memberIds);
+        
+        // 모든 참여자 삭제
+        participantRepository.deleteAllByStudyRoomId(room.getId());
+        memberPresenceService.closeRoom(ChatRoomType.GROUP, room.getId());
+        
+        // 방 완전 삭제
+        studyRoomRepository.delete(room);
+        evictActiveRoomPages();
+        deadlineScheduler.cancel(DeadlineType.GROUP_END, room.getId());
+        presencePublisher.publishRoomClosed(ChatRoomType.GROUP, room.getId());
+        
+        log.info("시간 만료된 방 자동 종료 완료 - 방ID: {}, 종료된 참여자 수: {}", room.getId(), memberIds.size());
+    }
+
     // 스터디방 삭제 (방 생성자만 가능, 본인만 있을 때)
     @Transactional
     public void deleteRoom(Long roomId, Long memberId) {
@@ -315,27 +307,16 @@ public class StudyRoomService {
             throw new IllegalArgumentException("방에 다른 멤버가 있을 때는 삭제할 수 없습니다");
         }
 
-        // 3. 방 생성자의 공부 세션 종료 (레벨업 처리)
-        com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-            studySessionService.getActiveSession(memberId);
-        if (activeSession != null) {
-            com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                studySessionService.endStudySession(activeSession.getId());
-            log.info("방 삭제 - 방장 세션 종료 - 회원ID: {}, 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                     memberId, result.studyMinutes(), result.leveledUp(), result.newLevel());
-        }
-        
-        // 4. 방 생성자의 PersonalTimer 종료
-        try {
-            personalTimerService.endTimer(memberId);
-            log.info("방 삭제 - 방장 타이머 종료 완료 - 회원ID: {}", memberId);
-        } catch (IllegalArgumentException e) {
-            log.warn("방 삭제 - 방장 타이머 종료 실패 (활성 타이머 없음) - 회원ID: {}", memberId);
-        }
+        // 3. 방 생성자의 공부 세션과 타이머 종료 (레벨업 처리)
+        roomTeardownService.endSessionsAndTimers(List.of(memberId));
 
-        // 5. 참여자 삭제 후 방 삭제
-        participantRepository.deleteByStudyRoomId(roomId);
+        // 4. 참여자 삭제 후 방 삭제
+        participantRepository.deleteAllByStudyRoomId(roomId);
+        memberPresenceService.closeRoom(ChatRoomType.GROUP, roomId);
         studyRoomRepository.delete(room);
+        evictActiveRoomPages();
+        deadlineScheduler.cancel(DeadlineType.GROUP_END, roomId);
+        presencePublisher.publishRoomClosed(ChatRoomType.GROUP, roomId);
         
         log.info("그룹스터디 방 삭제 완료 - 방ID: {}, 방장ID: {}", roomId, memberId);
     }
@@ -350,4 +331,70 @@ public class StudyRoomService {
                 .map(StudyRoomParticipantResponse::new)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // 그룹 스터디 입장/퇴장 규칙 (RoomLifecycleEngine에서 사용)
+    // 정원/종료 여부는 조건부 UPDATE로 확인하고, 인원이 바뀌면 활성 방 목록 캐시 무효화
+    private class GroupStudyRoomLifecyclePolicy implements RoomLifecyclePolicy {
+
+        @Override
+        public ChatRoomType roomType() {
+            return ChatRoomType.GROUP;
+        }
+
+        @Override
+        public RuntimeException alreadyInRoom(boolean sameRoom) {
+            return new IllegalArgumentException(sameRoom
+                    ? "이미 입장한 방입니다"
+                    : "이미 입장한 방이 있습니다. 현재 방에서 나간 뒤 입장해주세요");
+        }
+
+        @Override
+        public RuntimeException alreadyInRoomOnCreate() {
+            return new IllegalArgumentException("방을 생성하려면 먼저 현재 방에서 나가야 합니다");
+        }
+
+        @Override
+        public RuntimeException notInRoom() {
+            return new IllegalArgumentException("참여하지 않은 방입니다");
+        }
+
+        @Override
+        public int admit(Long roomId) {
+            // 정원/종료 여부를 UPDATE 조건으로 확인 - 동시 입장에서도 정원을 넘지 않음
+            if (studyRoomRepository.increaseCurrentMembers(roomId, LocalDateTime.now()) == 0) {
+                throw admitFailure(roomId);
+            }
+            evictActiveRoomPages();
+            return studyRoomRepository.findCurrentMembersById(roomId);
+        }
+
+        // 입장 실패한 경우에만 방을 조회해서 원인별 안내
+        private IllegalArgumentException admitFailure(Long roomId) {
+            StudyRoom room = studyRoomRepository.findById(roomId).orElse(null);
+            if (room == null) {
+                return new IllegalArgumentException("스터디 방을 찾을 수 없습니다");
+            }
+            if (room.isEnded()) {
+                return new IllegalArgumentException("이미 종료된 스터디 방입니다");
+            }
+            return new IllegalArgumentException("최대 인원에 도달하여 입장이 불가합니다");
+        }
+
+        @Override
+        public void addParticipant(Long roomId, Long memberId) {
+            participantRepository.save(new StudyRoomParticipant(roomId, memberId));
+        }
+
+        @Override
+        public boolean removeParticipant(Long roomId, Long memberId) {
+            return participantRepository.deleteByStudyRoomIdAndMemberId(roomId, memberId) > 0;
+        }
+
+        @Override
+        public int release(Long roomId) {
+            studyRoomRepository.decreaseCurrentMembers(roomId);
+            evictActiveRoomPages();
+            return studyRoomRepository.findCurrentMembersById(roomId);
+        }
+    }
+}
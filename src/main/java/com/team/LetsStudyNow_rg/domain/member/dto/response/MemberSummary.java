@@ -0,0 +1,12 @@
+package com.team.LetsStudyNow_rg.domain.member.dto.response;
+
+/**
+ * 회원 요약 정보 (방 입장/퇴장 등 자주 쓰는 경로용, MemberSummaryCache에 보관)
+ */
+public record MemberSummary(
+        Long id,
+        String username,
+        String profileImage,
+        Integer level
+) {
+}
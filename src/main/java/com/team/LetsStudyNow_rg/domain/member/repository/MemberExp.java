@@ -0,0 +1,9 @@
+package com.team.LetsStudyNow_rg.domain.member.repository;
+
+/**
+ * 회원 경험치/레벨 조회용 프로젝션 (레벨업 계산 시 회원 엔티티 전체를 읽지 않음)
+ */
+public interface MemberExp {
+    Integer getTotalExp();
+    Integer getLevel();
+}
@@ -0,0 +1,12 @@
+package com.team.LetsStudyNow_rg.domain.member.repository;
+
+/**
+ * 회원 경험치/레벨 조건부 갱신 한 건 (expectedTotalExp가 그대로일 때만 반영)
+ */
+public record MemberExpUpdate(
+        Long memberId,
+        int expectedTotalExp,
+        int newTotalExp,
+        int newLevel
+) {
+}
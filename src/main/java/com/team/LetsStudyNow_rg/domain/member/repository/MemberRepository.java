@@ -1,13 +1,46 @@
 package com.team.LetsStudyNow_rg.domain.member.repository;
 
+import com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary;
 import com.team.LetsStudyNow_rg.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
     boolean existsByEmail(String email); // 계정 생성 시 이메일 존재 여부 확인
     boolean existsByUsername(String username); // 아이디 존재 여부 확인
     Optional<Member> findByEmail(String email);
     Optional<Member> findByUsername(String username);
+
+    // 요약 정보만 조회 (MemberSummaryCache용)
+    @Query("SELECT new com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary(m.id, m.username, m.profileImage, m.level) " +
+           "FROM Member m WHERE m.id = :memberId")
+    Optional<MemberSummary> findSummaryById(@Param("memberId") Long memberId);
+
+    // 답변 채택 횟수 증가 (조회 없이 원자적으로) - 대상이 없으면 0 반환
+    @Modifying
+    @Query("UPDATE Member m SET m.adoptionCount = m.adoptionCount + 1 WHERE m.username = :username")
+    int increaseAdoptionCountByUsername(@Param("username") String username);
+
+    // 경험치/레벨만 조회 (레벨업 계산용)
+    @Query("SELECT m.totalExp AS totalExp, m.level AS level FROM Member m WHERE m.id = :memberId")
+    Optional<MemberExp> findExpById(@Param("memberId") Long memberId);
+
+    // 경험치/레벨 조회 + 행 잠금 (조건부 갱신이 충돌했을 때만 사용)
+    // 영속성 컨텍스트의 회원 엔티티와 무관하게 항상 최신 커밋 값을 읽도록 네이티브 쿼리 사용
+    @Query(value = "SELECT total_exp AS totalExp, level AS level FROM member WHERE id = :memberId FOR UPDATE",
+           nativeQuery = true)
+    Optional<MemberExp> findExpByIdForUpdate(@Param("memberId") Long memberId);
+
+    // 경험치/레벨 조건부 갱신 - 읽은 뒤 다른 요청이 경험치를 바꿨으면 0 반환
+    @Modifying
+    @Query("UPDATE Member m SET m.totalExp = :newTotalExp, m.level = :newLevel " +
+           "WHERE m.id = :memberId AND m.totalExp = :expectedTotalExp")
+    int compareAndSetExp(@Param("memberId") Long memberId,
+                         @Param("expectedTotalExp") int expectedTotalExp,
+                         @Param("newTotalExp") int newTotalExp,
+                         @Param("newLevel") int newLevel);
 }
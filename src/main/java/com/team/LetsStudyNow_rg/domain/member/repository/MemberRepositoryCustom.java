@@ -0,0 +1,17 @@
+package com.team.LetsStudyNow_rg.domain.member.repository;
+
+import java.util.List;
+
+/**
+ * 회원 경험치 일괄 갱신 (JDBC 배치)
+ */
+public interface MemberRepositoryCustom {
+
+    /**
+     * 경험치/레벨 조건부 갱신을 배치 한 번으로 실행
+     *
+     * @param updates 갱신 목록
+     * @return 갱신마다 반영된 행 수 (0이면 그 사이 경험치가 바뀐 것)
+     */
+    int[] compareAndSetExpInBatch(List<MemberExpUpdate> updates);
+}
@@ -0,0 +1,27 @@
+package com.team.LetsStudyNow_rg.domain.member.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private static final String COMPARE_AND_SET_EXP_SQL =
+            "UPDATE member SET total_exp = ?, level = ? WHERE id = ? AND total_exp = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] compareAndSetExpInBatch(List<MemberExpUpdate> updates) {
+        if (updates.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> batchArgs = updates.stream()
+                .map(update -> new Object[]{
+                        update.newTotalExp(), update.newLevel(), update.memberId(), update.expectedTotalExp()})
+                .toList();
+        return jdbcTemplate.batchUpdate(COMPARE_AND_SET_EXP_SQL, batchArgs);
+    }
+}
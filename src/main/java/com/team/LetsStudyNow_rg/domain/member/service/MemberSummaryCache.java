@@ -0,0 +1,46 @@
+package com.team.LetsStudyNow_rg.domain.member.service;
+
+import com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary;
+import com.team.LetsStudyNow_rg.domain.member.exception.MemberNotFoundException;
+import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.global.cache.TtlCache;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 회원 요약 정보 캐시 (회원 ID → 닉네임, 프로필 이미지, 레벨)
+ *
+ * 방 생성/입장/퇴장처럼 매 요청마다 회원 전체를 조회하던 경로에서 사용
+ * 엔티티가 필요한 곳(연관관계 설정)은 getReferenceById로 프록시만 사용
+ * 프로필 수정, 탈퇴, 레벨업 시 evict 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSummaryCache {
+
+    private final MemberRepository memberRepository;
+
+    private final TtlCache<Long, MemberSummary> cache = new TtlCache<>(Duration.ofMinutes(5), 10_000);
+
+    /**
+     * @throws MemberNotFoundException 회원이 없는 경우
+     */
+    public MemberSummary get(Long memberId) {
+        MemberSummary summary = cache.get(memberId, id -> memberRepository.findSummaryById(id).orElse(null));
+        if (summary == null) {
+            throw new MemberNotFoundException(memberId);
+        }
+        return summary;
+    }
+
+    /**
+     * 회원 정보 변경 시 무효화 (지금 한 번, 커밋 후 한 번 - 커밋 전에 다시 읽힌 값 제거, 그때 읽는 중이던 값도 저장되지 않음)
+     */
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+        TransactionCallbacks.afterCommit(() -> cache.invalidate(memberId));
+    }
+}
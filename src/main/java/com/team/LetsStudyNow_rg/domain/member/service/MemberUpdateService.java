@@ -26,6 +26,7 @@ public class MemberUpdateService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
+    private final MemberSummaryCache memberSummaryCache;
 
     @Value("${custom.s3.default-image-url}")
     private String defaultProfileImageUrl;
@@ -35,6 +36,7 @@ public class MemberUpdateService {
     public ProfileDto updateProfileService(CustomUser customUser, ProfileUpdateDto req, MultipartFile image) {
         Member user = memberRepository.findById(customUser.id)
                 .orElseThrow(() -> new MemberNotFoundException(customUser.id));
+        memberSummaryCache.evict(user.getId());
 
         // 이미지 업로드
         if (image != null && !image.isEmpty()) {
@@ -45,8 +47,8 @@ public class MemberUpdateService {
                 s3Service.deleteFile(oldImageUrl);
             }
 
-            // 새 이미지 업로드 및 DB 업데이트
-            String newImageUrl = s3Service.uploadFile(image, "profile");
+            // 새 이미지 업로드 (표시용 크기로 줄여서 저장) 및 DB 업데이트
+            String newImageUrl = s3Service.uploadImage(image, "profile").imageUrl();
             user.setProfileImage(newImageUrl);
 
         }
@@ -101,6 +103,7 @@ public class MemberUpdateService {
 
         // 2. Soft Delete: deleted 플래그 설정
         user.setDeleted(true);
+        memberSummaryCache.evict(user.getId());
 
         // 3. 개인정보 마스킹 및 유니크 키 충돌 방지
         String uuid = UUID.randomUUID().toString().substring(0, 8);
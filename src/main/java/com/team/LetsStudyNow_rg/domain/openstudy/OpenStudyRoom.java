@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -14,13 +15,22 @@ import java.util.List;
 /**
  * 오픈 스터디 방 엔티티 (DB 테이블: open_study_room)
  * 방의 기본 정보, 참여자 수, 삭제 관련 상태를 관리
+ *
+ * 참여 인원은 입장/퇴장 시 조건부 UPDATE(OpenStudyRoomRepository)로만 증감하므로
+ * 엔티티 변경 시에는 변경된 컬럼만 UPDATE (읽어 둔 인원 값으로 덮어쓰지 않도록)
  */
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "open_study_room")
+@Table(name = "open_study_room", indexes = {
+    // 방 목록 조회 (공부 분야 필터 + 최신순 커서)
+    @Index(name = "idx_open_study_room_status_field_created", columnList = "status, study_field, created_at"),
+    // 방 목록 조회 (전체 + 최신순 커서)
+    @Index(name = "idx_open_study_room_status_created", columnList = "status, created_at")
+})
 public class OpenStudyRoom {
     
     @Id
@@ -79,22 +89,11 @@ public class OpenStudyRoom {
     // === 비즈니스 로직 메서드 ===
     
     /**
-     * 현재 참여 인원을 1명 증가
-     * 새로운 사용자가 방에 참여할 때 호출
+     * 현재 참여 인원을 0으로 초기화
+     * 방 삭제 시 참여자를 일괄 정리한 뒤 호출
      */
-    public void incrementParticipants() {
-        this.currentParticipants++;
-    }
-    
-    /**
-     * 현재 참여 인원을 1명 감소
-     * 사용자가 방에서 나갈 때 호출
-     * 0 미만으로 내려가지 않도록 검증
-     */
-    public void decrementParticipants() {
-        if (this.currentParticipants > 0) {
-            this.currentParticipants--;
-        }
+    public void clearParticipants() {
+        this.currentParticipants = 0;
     }
     
     /**
@@ -164,7 +163,7 @@ public class OpenStudyRoom {
     
     /**
      * 생성자 혼자 있는 타이머가 5분 경과했는지 확인
-     * 스케줄러가 1분마다 체크
+     * 마감 스케줄러가 삭제 직전에 다시 확인
      * @return true: 타이머가 시작됐고 && 5분 경과 && 현재 인원 1명
      */
     public boolean isAloneTimerExpired() {
@@ -173,9 +172,17 @@ public class OpenStudyRoom {
             && this.currentParticipants == 1;
     }
     
+    /**
+     * 생성자 혼자 타이머 마감 시간 (시작 + 5분)
+     * @return 마감 시간 (타이머가 없으면 null)
+     */
+    public LocalDateTime getAloneTimerExpiresAt() {
+        return this.aloneTimerStartedAt == null ? null : this.aloneTimerStartedAt.plusMinutes(5);
+    }
+    
     /**
      * 삭제 예정 시간이 지났는지 확인
-     * 스케줄러가 1분마다 체크
+     * 마감 스케줄러가 삭제 직전에 다시 확인
      * @return true: 삭제 예정 시간이 설정됐고 && 현재 시간이 지남
      */
     public boolean isDeleteScheduleExpired() {
@@ -1,10 +1,9 @@
 package com.team.LetsStudyNow_rg.domain.openstudy;
 
 import com.team.LetsStudyNow_rg.global.auth.CustomUser;
-import com.team.LetsStudyNow_rg.domain.member.entity.Member;
-import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary;
+import com.team.LetsStudyNow_rg.domain.member.service.MemberSummaryCache;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomCreateDto;
-import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomListDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.ParticipantResponseDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.RoomJoinResultDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.service.ParticipantService;
@@ -16,11 +15,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -34,7 +35,7 @@ import java.util.stream.Collectors;
 public class OpenStudyRoomController {
     
     private final OpenStudyRoomService openStudyRoomService;
-    private final MemberRepository memberRepository;
+    private final MemberSummaryCache memberSummaryCache;
     private final ParticipantService participantService;
     
     /**
@@ -73,8 +74,7 @@ public class OpenStudyRoomController {
         @Valid @RequestBody OpenStudyRoomCreateDto dto,
         @AuthenticationPrincipal CustomUser user
     ) {
-        Member member = memberRepository.findById(user.id)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다"));
+        MemberSummary member = memberSummaryCache.get(user.id);
         
         OpenStudyRoom room = openStudyRoomService.createRoom(dto, member);
         
@@ -93,7 +93,9 @@ public class OpenStudyRoomController {
         summary = "활성 방 목록 조회 (필터링 및 페이지네이션 지원)", 
         description = "현재 활성화된 오픈 스터디 방 목록을 페이지 단위로 조회합니다. " +
                       "studyField 파라미터로 공부 분야별 필터링이 가능하며, 생략 시 최신 생성 순으로 전체 조회합니다. " +
-                      "한 페이지당 10개의 방을 표시하며, page 파라미터로 페이지 번호를 지정할 수 있습니다."
+                      "한 페이지당 10개의 방을 표시하며, page 파라미터로 페이지 번호를 지정할 수 있습니다. " +
+                      "mode=cursor로 요청하면 커서 기반으로 조회하며, 응답의 nextCursorCreatedAt/nextCursorId를 " +
+                      "다음 요청의 cursorCreatedAt/cursorId로 전달합니다. (includeTotal=true면 전체 개수 포함)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "방 목록 조회 성공"),
@@ -102,11 +104,26 @@ public class OpenStudyRoomController {
     @GetMapping("/rooms")
     public ResponseEntity<?> getRoomList(
         @RequestParam(required = false) String studyField,
-        @RequestParam(defaultValue = "1") int page
+        @RequestParam(defaultValue = "1") int page,
+        @Parameter(description = "조회 방식 (page: 페이지 번호, cursor: 커서 기반)", example = "page")
+        @RequestParam(defaultValue = "page") String mode,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+        @RequestParam(required = false) Long cursorId,
+        @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
-        log.info("방 목록 조회 요청 - studyField: {}, page: {}", studyField, page);
+        log.info("방 목록 조회 요청 - studyField: {}, page: {}, mode: {}", studyField, page, mode);
         
         try {
+            if ("cursor".equalsIgnoreCase(mode)) {
+                var cursorResponse = openStudyRoomService.getRoomListByStudyFieldWithCursor(
+                    studyField, cursorCreatedAt, cursorId, includeTotal);
+                
+                return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "data", cursorResponse
+                ));
+            }
+            
             var pageResponse = openStudyRoomService.getRoomListByStudyFieldWithPagination(studyField, page);
             
             log.info("방 목록 조회 완료 - 결과 개수: {}, 전체 페이지: {}", 
@@ -146,8 +163,7 @@ public class OpenStudyRoomController {
         @PathVariable Long roomId,
         @AuthenticationPrincipal CustomUser user
     ) {
-        Member member = memberRepository.findById(user.id)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다"));
+        MemberSummary member = memberSummaryCache.get(user.id);
         
         RoomJoinResultDto result = openStudyRoomService.joinRoom(roomId, member);
         
@@ -169,8 +185,7 @@ public class OpenStudyRoomController {
         @PathVariable Long roomId,
         @AuthenticationPrincipal CustomUser user
     ) {
-        Member member = memberRepository.findById(user.id)
-                .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다"));
+        MemberSummary member = memberSummaryCache.get(user.id);
         
         openStudyRoomService.leaveRoom(roomId, member);
         
@@ -190,8 +205,7 @@ public class OpenStudyRoomController {
     })
     @GetMapping("/rooms/{roomId}")
     public ResponseEntity<?> getRoomDetail(@PathVariable Long roomId) {
-        OpenStudyRoom room = openStudyRoomService.getRoomById(roomId);
-        return ResponseEntity.ok(OpenStudyRoomListDto.from(room));
+        return ResponseEntity.ok(openStudyRoomService.getRoomDetail(roomId));
     }
     
     /**
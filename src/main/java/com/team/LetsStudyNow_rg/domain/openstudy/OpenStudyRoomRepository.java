@@ -1,32 +1,104 @@
 package com.team.LetsStudyNow_rg.domain.openstudy;
 
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomListDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OpenStudyRoomRepository extends JpaRepository<OpenStudyRoom, Long> {
     
+    /**
+     * 목록 조회 공통 SELECT 절
+     * 엔티티 대신 OpenStudyRoomListDto를 바로 생성 (생성자 username은 JOIN으로 함께 조회)
+     * 영속성 컨텍스트에 엔티티가 올라가지 않고, 방마다 Member를 추가 조회하는 N+1도 없음
+     */
+    String LIST_DTO_SELECT = "SELECT new com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomListDto(" +
+            "r.id, r.title, r.description, r.studyField, r.currentParticipants, r.maxParticipants, " +
+            "c.username, r.createdAt) " +
+            "FROM OpenStudyRoom r JOIN r.creator c ";
+    
     /**
      * 여러 상태의 방 목록 조회 (페이징, 최신순)
      */
-    Page<OpenStudyRoom> findByStatusInOrderByCreatedAtDesc(List<RoomStatus> statuses, Pageable pageable);
+    @Query(value = LIST_DTO_SELECT +
+                   "WHERE r.status IN :statuses ORDER BY r.createdAt DESC, r.id DESC",
+           countQuery = "SELECT COUNT(r) FROM OpenStudyRoom r WHERE r.status IN :statuses")
+    Page<OpenStudyRoomListDto> findListByStatusIn(
+        @Param("statuses") List<RoomStatus> statuses,
+        Pageable pageable
+    );
     
     /**
      * 공부 분야별 방 목록 조회 (페이징, 최신순)
      */
-    Page<OpenStudyRoom> findByStudyFieldAndStatusInOrderByCreatedAtDesc(
-        StudyField studyField, 
-        List<RoomStatus> statuses,
+    @Query(value = LIST_DTO_SELECT +
+                   "WHERE r.status IN :statuses AND r.studyField = :studyField " +
+                   "ORDER BY r.createdAt DESC, r.id DESC",
+           countQuery = "SELECT COUNT(r) FROM OpenStudyRoom r " +
+                        "WHERE r.status IN :statuses AND r.studyField = :studyField")
+    Page<OpenStudyRoomListDto> findListByStudyFieldAndStatusIn(
+        @Param("studyField") StudyField studyField,
+        @Param("statuses") List<RoomStatus> statuses,
+        Pageable pageable
+    );
+    
+    /**
+     * 여러 상태의 방 목록 조회 (커서 기반, 최신순)
+     * (createdAt, id) 커서보다 이전에 생성된 방만 조회하므로 OFFSET 없이 인덱스 범위 스캔
+     * Slice 반환 - COUNT 쿼리 없음
+     */
+    @Query(LIST_DTO_SELECT +
+           "WHERE r.status IN :statuses " +
+           "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<OpenStudyRoomListDto> findSliceByStatusIn(
+        @Param("statuses") List<RoomStatus> statuses,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
         Pageable pageable
     );
     
+    /**
+     * 공부 분야별 방 목록 조회 (커서 기반, 최신순)
+     */
+    @Query(LIST_DTO_SELECT +
+           "WHERE r.status IN :statuses AND r.studyField = :studyField " +
+           "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<OpenStudyRoomListDto> findSliceByStudyFieldAndStatusIn(
+        @Param("studyField") StudyField studyField,
+        @Param("statuses") List<RoomStatus> statuses,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorId") Long cursorId,
+        Pageable pageable
+    );
+    
+    /**
+     * 방 상세 조회 (DTO 직접 생성)
+     */
+    @Query(LIST_DTO_SELECT + "WHERE r.id = :roomId")
+    Optional<OpenStudyRoomListDto> findListDtoById(@Param("roomId") Long roomId);
+    
+    /**
+     * 여러 상태의 방 개수 (커서 조회의 전체 개수 캐시용)
+     */
+    long countByStatusIn(List<RoomStatus> statuses);
+    
+    /**
+     * 공부 분야별 방 개수 (커서 조회의 전체 개수 캐시용)
+     */
+    long countByStudyFieldAndStatusIn(StudyField studyField, List<RoomStatus> statuses);
+    
     /**
      * 삭제 예정 시간이 지난 방 조회
      * 추가 조건: currentParticipants가 1 이하인 경우만 삭제
@@ -48,6 +120,19 @@ public interface OpenStudyRoomRepository extends JpaRepository<OpenStudyRoom, Lo
            "AND r.aloneTimerStartedAt <= :fiveMinutesAgo")
     List<OpenStudyRoom> findAloneRoomsExpired(@Param("fiveMinutesAgo") LocalDateTime fiveMinutesAgo);
     
+    /**
+     * 생성자 혼자 타이머가 진행 중인 활성 방 조회
+     * 애플리케이션 시작 시 마감 스케줄러 복구용
+     */
+    @Query("SELECT r FROM OpenStudyRoom r WHERE r.status = 'ACTIVE' AND r.aloneTimerStartedAt IS NOT NULL")
+    List<OpenStudyRoom> findAloneTimerRooms();
+    
+    /**
+     * 특정 상태의 방 조회
+     * 애플리케이션 시작 시 마감 스케줄러 복구용 (PENDING_DELETE)
+     */
+    List<OpenStudyRoom> findByStatus(RoomStatus status);
+    
     /**
      * 참여자가 없는 활성 방 조회
      */
@@ -59,4 +144,32 @@ public interface OpenStudyRoomRepository extends JpaRepository<OpenStudyRoom, Lo
      */
     @Query("SELECT r FROM OpenStudyRoom r WHERE r.status = 'PENDING_DELETE' AND r.currentParticipants = 1")
     List<OpenStudyRoom> findSingleParticipantPendingRooms();
+    
+    /**
+     * 참여 인원 1 증가 + 생성자 혼자 타이머 해제 (UPDATE 한 번)
+     * 입장 허용 여부는 OpenStudyRoomRegistry가 메모리에서 먼저 판단하고,
+     * 레지스트리는 노드 로컬이므로 DB에서도 상태/정원을 조건으로 다시 확인
+     * 입장에 성공하면 인원은 항상 2명 이상이므로 혼자 타이머는 항상 해제
+     *
+     * @return 1: 입장 반영, 0: 활성 상태가 아니거나 정원 초과
+     */
+    @Modifying
+    @Query("UPDATE OpenStudyRoom r SET r.currentParticipants = r.currentParticipants + 1, " +
+           "r.aloneTimerStartedAt = null WHERE r.id = :roomId " +
+           "AND r.status = 'ACTIVE' AND r.currentParticipants < r.maxParticipants")
+    int incrementParticipants(@Param("roomId") Long roomId);
+
+    /**
+     * 참여 인원 1 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE OpenStudyRoom r SET r.currentParticipants = r.currentParticipants - 1 " +
+           "WHERE r.id = :roomId AND r.currentParticipants > 0")
+    int decrementParticipants(@Param("roomId") Long roomId);
+
+    /**
+     * 현재 참여 인원만 조회 (조건부 UPDATE 이후 최신 값)
+     */
+    @Query("SELECT r.currentParticipants FROM OpenStudyRoom r WHERE r.id = :roomId")
+    int findCurrentParticipantsById(@Param("roomId") Long roomId);
 }
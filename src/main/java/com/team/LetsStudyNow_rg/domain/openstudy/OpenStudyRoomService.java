@@ -1,7 +1,11 @@
 package com.team.LetsStudyNow_rg.domain.openstudy;
 
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.member.dto.response.MemberSummary;
 import com.team.LetsStudyNow_rg.domain.member.entity.Member;
+import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomCreateDto;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomCursorResponseDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomListDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.PageResponseDto;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.RoomJoinResultDto;
@@ -9,14 +13,27 @@ import com.team.LetsStudyNow_rg.domain.openstudy.exception.AlreadyInRoomExceptio
 import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomDeletingException;
 import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomFullException;
 import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomNotFoundException;
+import com.team.LetsStudyNow_rg.domain.openstudy.registry.OpenStudyRoomRegistry;
+import com.team.LetsStudyNow_rg.domain.openstudy.service.ParticipantService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.MemberPresenceService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler.DeadlineType;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomLifecycleEngine;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomLifecyclePolicy;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomPresencePublisher;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomTeardownService;
+import com.team.LetsStudyNow_rg.global.cache.TtlCache;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,19 +48,43 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OpenStudyRoomService {
 
+    // 목록 조회 대상 상태 (삭제 예정 방도 목록에는 표시)
+    private static final List<RoomStatus> LISTED_STATUSES = List.of(RoomStatus.ACTIVE, RoomStatus.PENDING_DELETE);
+
+    // 커서 조회 한 페이지당 방 개수
+    private static final int CURSOR_PAGE_SIZE = 10;
+
+    // 커서 없이 첫 페이지를 요청할 때 사용하는 커서 (모든 방보다 이후)
+    private static final LocalDateTime FIRST_PAGE_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // 전체 방 개수 캐시 키 (공부 분야 필터 없음)
+    private static final String ALL_STUDY_FIELDS = "ALL";
+
     private final OpenStudyRoomRepository roomRepository;
+    private final MemberRepository memberRepository;
     private final RoomParticipantRepository participantRepository;
-    private final com.team.LetsStudyNow_rg.domain.studyroom.service.StudySessionService studySessionService;
-    private final com.team.LetsStudyNow_rg.domain.timer.service.PersonalTimerService personalTimerService;
+    private final OpenStudyRoomRegistry roomRegistry;
+    private final ParticipantService participantService;
+    private final RoomPresencePublisher presencePublisher;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    private final RoomTeardownService roomTeardownService;
+    private final MemberPresenceService memberPresenceService;
+    private final RoomLifecycleEngine lifecycleEngine;
+
+    // 입장/퇴장 시 오픈 스터디 규칙 (인원, 참여자 행, 예외)
+    private final RoomLifecyclePolicy lifecyclePolicy = new OpenStudyRoomLifecyclePolicy();
+
+    // 커서 조회 시 함께 내려주는 전체 방 개수 (공부 분야별, 30초 캐시)
+    private final TtlCache<String, Long> roomCountCache = new TtlCache<>(Duration.ofSeconds(30), 64);
 
     /**
      * 새로운 오픈 스터디 방 생성
      *
      * 생성 과정:
-     * 1. 생성자가 이미 다른 방에 참여 중인지 검증
-     * 2. 방 엔티티 생성 (생성자는 자동으로 첫 번째 참여자가 됨)
-     * 3. 생성자 혼자 5분 타이머 시작
-     * 4. 방 저장 후 생성자를 참여자 테이블에 추가
+     * 1. 방 엔티티 생성 (생성자는 자동으로 첫 번째 참여자가 됨)
+     * 2. 생성자 혼자 5분 타이머 시작
+     * 3. 방 저장 후 생성자 입장 기록 (이미 다른 방에 있으면 실패 → 방 생성도 롤백)
+     * 4. 생성자를 참여자 테이블에 추가
      * 5. 공부 세션 및 타이머 자동 시작
      *
      * @param dto 방 생성 정보 (제목, 설명, 공부 분야, 최대 인원)
@@ -51,14 +92,8 @@ public class OpenStudyRoomService {
      * @return 생성된 방 엔티티
      * @throws AlreadyInRoomException 이미 다른 방에 참여 중인 경우
      */
-    public OpenStudyRoom createRoom(OpenStudyRoomCreateDto dto, Member creator) {
-        log.info("방 생성 시도 - 제목: {}, 생성자: {}", dto.title(), creator.getUsername());
-
-        // 생성자가 이미 활성 상태인 다른 방에 참여 중인지 확인
-        participantRepository.findActiveRoomByMemberId(creator.getId())
-            .ifPresent(participant -> {
-                throw new AlreadyInRoomException("방을 생성하려면 먼저 현재 방에서 나가야 합니다");
-            });
+    public OpenStudyRoom createRoom(OpenStudyRoomCreateDto dto, MemberSummary creator) {
+        log.info("방 생성 시도 - 제목: {}, 생성자: {}", dto.title(), creator.username());
 
         // 공부 분야 변환 (한글 → Enum)
         StudyField studyField = StudyField.fromDescription(dto.studyField());
@@ -66,6 +101,9 @@ public class OpenStudyRoomService {
             throw new IllegalArgumentException("유효하지 않은 공부 분야입니다: " + dto.studyField());
         }
 
+        // 생성자는 프록시 참조만 사용 (회원 조회 없음)
+        Member creatorRef = memberRepository.getReferenceById(creator.id());
+
         // 방 엔티티 생성 (currentParticipants는 1로 시작 = 생성자)
         OpenStudyRoom room = OpenStudyRoom.builder()
             .title(dto.title())
@@ -73,7 +111,7 @@ public class OpenStudyRoomService {
             .studyField(studyField)
             .maxParticipants(dto.maxParticipants())
             .currentParticipants(1)
-            .creator(creator)
+            .creator(creatorRef)
             .status(RoomStatus.ACTIVE)
             .build();
 
@@ -83,24 +121,15 @@ public class OpenStudyRoomService {
 
         OpenStudyRoom savedRoom = roomRepository.save(room);
 
-        // 생성자를 참여자 테이블에 추가
-        RoomParticipant participant = RoomParticipant.builder()
-            .room(savedRoom)
-            .member(creator)
-            .build();
+        // 생성자 자동 입장 (입장 기록, 참여자 추가, 공부 세션/타이머 시작)
+        // 이미 다른 방에 있으면 실패하고 방 생성도 롤백됨
+        lifecycleEngine.joinAsCreator(lifecyclePolicy, savedRoom.getId(), creator.id());
 
-        participantRepository.save(participant);
+        deadlineScheduler.schedule(DeadlineType.OPEN_ALONE, savedRoom.getId(), savedRoom.getAloneTimerExpiresAt());
 
-        // ✅ 공부 세션 시작
-        studySessionService.startStudySession(creator.getId(), "OPEN_STUDY", savedRoom.getId());
-        
-        // ✅ PersonalTimer 자동 시작 (공부 상태로 시작)
-        try {
-            personalTimerService.startTimer(creator.getId(), savedRoom.getId(), true);
-            log.info("타이머 자동 시작 완료 - 회원: {}, 방ID: {}", creator.getUsername(), savedRoom.getId());
-        } catch (IllegalStateException e) {
-            log.warn("타이머 시작 실패 (이미 활성 타이머 존재) - 회원: {}", creator.getUsername());
-        }
+        // 메모리 레지스트리에 등록 (커밋 후)
+        roomRegistry.register(savedRoom);
+        TransactionCallbacks.afterCommit(roomCountCache::invalidateAll);
 
         log.info("방 생성 완료 - ID: {}, 제목: {}, 혼자타이머: {}",
             savedRoom.getId(), savedRoom.getTitle(), savedRoom.getAloneTimerStartedAt());
@@ -129,127 +158,134 @@ public class OpenStudyRoomService {
         // Pageable 생성
         Pageable pageable = PageRequest.of(page - 1, 10);
         
-        Page<OpenStudyRoom> roomPage;
+        Page<OpenStudyRoomListDto> roomPage;
         
         // 공부 분야가 지정되지 않은 경우 최신 생성 순으로 전체 조회
         if (studyFieldStr == null || studyFieldStr.trim().isEmpty()) {
             log.info("필터 없음 - 전체 방 목록 조회 (페이징)");
-            roomPage = roomRepository.findByStatusInOrderByCreatedAtDesc(
-                    List.of(RoomStatus.ACTIVE, RoomStatus.PENDING_DELETE),
+            roomPage = roomRepository.findListByStatusIn(
+                    LISTED_STATUSES,
                     pageable);
         } else {
-            StudyField studyField = StudyField.fromDescription(studyFieldStr.trim());
-            if (studyField == null) {
-                log.error("유효하지 않은 공부 분야: '{}'", studyFieldStr);
-                throw new IllegalArgumentException("유효하지 않은 공부 분야입니다: " + studyFieldStr);
-            }
+            StudyField studyField = parseStudyField(studyFieldStr);
             
             log.info("공부 분야 필터 적용: {} ({})", studyField, studyField.getDescription());
-            roomPage = roomRepository.findByStudyFieldAndStatusInOrderByCreatedAtDesc(
+            roomPage = roomRepository.findListByStudyFieldAndStatusIn(
                     studyField,
-                    List.of(RoomStatus.ACTIVE, RoomStatus.PENDING_DELETE),
+                    LISTED_STATUSES,
                     pageable);
         }
         
         log.info("조회된 방 개수: {}, 전체 페이지: {}, 전체 데이터: {}", 
                 roomPage.getContent().size(), roomPage.getTotalPages(), roomPage.getTotalElements());
 
-        // Entity를 DTO로 변환
-        Page<OpenStudyRoomListDto> dtoPage = roomPage.map(OpenStudyRoomListDto::from);
-        
-        return PageResponseDto.of(dtoPage, page);
+        // 쿼리에서 바로 DTO로 조회 (생성자 username 포함, 추가 조회 없음)
+        return PageResponseDto.of(roomPage, page);
     }
 
     /**
-     * 오픈 스터디 방에 참여
+     * 공부 분야별로 필터링된 방 목록 조회 (커서 기반)
+     * (createdAt, id) 커서 이후의 방을 최신순으로 10개씩 조회
+     * OFFSET과 COUNT 쿼리가 없어서 페이지가 깊어져도 조회 비용이 일정함
      *
-     * 참여 과정 및 검증:
-     * 1. 이미 다른 방에 참여 중인지 확인
-     * 2. 방이 존재하는지 확인
-     * 3. 방 상태 확인 (PENDING_DELETE나 DELETED 상태면 참여 불가)
-     * 4. 정원 초과 여부 확인
-     * 5. 이미 해당 방에 참여 중인지 확인
-     * 6. 참여자 추가 및 현재 인원 증가
-     * 7. 공부 세션 및 타이머 자동 시작
-     * 8. 특수 상황 처리:
-     *    - 2명이 되면: 생성자 혼자 타이머 취소
-     *    - 삭제 예정 상태에서 2명 이상이 되면: 삭제 예약 취소
-     *
-     * @param roomId 참여할 방의 ID
-     * @param member 참여하려는 회원
-     * @return 참여 결과 DTO
-     * @throws AlreadyInRoomException 이미 다른 방에 참여 중인 경우
-     * @throws RoomNotFoundException 방을 찾을 수 없는 경우
-     * @throws RoomDeletingException 삭제 예정 상태의 방인 경우
-     * @throws RoomFullException 방이 가득 찬 경우
+     * @param studyFieldStr 공부 분야 (null이면 전체 조회)
+     * @param cursorCreatedAt 이전 페이지 마지막 방의 생성 시간 (첫 페이지면 null)
+     * @param cursorId 이전 페이지 마지막 방의 ID (첫 페이지면 null)
+     * @param includeTotal true면 전체 방 개수를 함께 반환 (30초 캐시 값)
+     * @return 커서 기반 응답 DTO
      */
-    public RoomJoinResultDto joinRoom(Long roomId, Member member) {
-        log.info("방 참여 시도 - 방ID: {}, 회원: {}", roomId, member.getUsername());
-
-        // 이미 다른 활성 방에 참여 중인지 확인 (한 번에 하나의 방만 참여 가능)
-        participantRepository.findActiveRoomByMemberId(member.getId())
-            .ifPresent(participant -> {
-                throw new AlreadyInRoomException();
-            });
-
-        // 방 조회
-        OpenStudyRoom room = roomRepository.findById(roomId)
-            .orElseThrow(RoomNotFoundException::new);
+    @Transactional(readOnly = true)
+    public OpenStudyRoomCursorResponseDto getRoomListByStudyFieldWithCursor(
+            String studyFieldStr, LocalDateTime cursorCreatedAt, Long cursorId, boolean includeTotal) {
+        log.info("공부 분야별 방 목록 조회 (커서) - 필터: '{}', 커서: {}/{}", studyFieldStr, cursorCreatedAt, cursorId);
 
-        // SRS 15.1.4: 삭제 예정 방은 새로운 참여 불가
-        if (room.getStatus() == RoomStatus.PENDING_DELETE) {
-            throw new RoomDeletingException();
+        // 커서는 두 값이 함께 전달되어야 함
+        if ((cursorCreatedAt == null) != (cursorId == null)) {
+            throw new IllegalArgumentException("cursorCreatedAt과 cursorId는 함께 전달해야 합니다");
         }
-
-        // 이미 삭제된 방인지 확인
-        if (room.getStatus() == RoomStatus.DELETED) {
-            throw new RoomNotFoundException("이미 삭제된 방입니다");
+        if (cursorCreatedAt == null) {
+            cursorCreatedAt = FIRST_PAGE_CURSOR_CREATED_AT;
+            cursorId = Long.MAX_VALUE;
         }
 
-        // 정원 확인 (동시 접속으로 인한 정원 초과 방지)
-        if (room.isFull()) {
-            throw new RoomFullException();
-        }
+        Pageable pageable = PageRequest.of(0, CURSOR_PAGE_SIZE);
+        Slice<OpenStudyRoomListDto> roomSlice;
+        String countKey;
 
-        // 이미 해당 방에 참여 중인지 확인 (중복 참여 방지)
-        if (participantRepository.existsByRoomIdAndMemberId(roomId, member.getId())) {
-            throw new AlreadyInRoomException("이미 해당 방에 참여 중입니다");
+        if (studyFieldStr == null || studyFieldStr.trim().isEmpty()) {
+            roomSlice = roomRepository.findSliceByStatusIn(LISTED_STATUSES, cursorCreatedAt, cursorId, pageable);
+            countKey = ALL_STUDY_FIELDS;
+        } else {
+            StudyField studyField = parseStudyField(studyFieldStr);
+            roomSlice = roomRepository.findSliceByStudyFieldAndStatusIn(
+                    studyField, LISTED_STATUSES, cursorCreatedAt, cursorId, pageable);
+            countKey = studyField.name();
         }
 
-        // 참여자 테이블에 추가
-        RoomParticipant participant = RoomParticipant.builder()
-            .room(room)
-            .member(member)
-            .build();
+        List<OpenStudyRoomListDto> content = roomSlice.getContent();
 
-        participantRepository.save(participant);
-        room.incrementParticipants();
+        Long totalElements = includeTotal ? roomCountCache.get(countKey, this::countListedRooms) : null;
 
-        // ✅ 공부 세션 시작
-        studySessionService.startStudySession(member.getId(), "OPEN_STUDY", roomId);
-        
-        // ✅ PersonalTimer 자동 시작 (공부 상태로 시작)
-        try {
-            personalTimerService.startTimer(member.getId(), roomId, false);
-            log.info("타이머 자동 시작 완료 - 회원: {}, 방ID: {}", member.getUsername(), roomId);
-        } catch (IllegalStateException e) {
-            log.warn("타이머 시작 실패 (이미 활성 타이머 존재) - 회원: {}", member.getUsername());
-        }
+        log.info("조회된 방 개수: {}, 다음 페이지: {}", content.size(), roomSlice.hasNext());
+
+        return OpenStudyRoomCursorResponseDto.of(content, CURSOR_PAGE_SIZE, roomSlice.hasNext(), totalElements);
+    }
 
-        // 2명이 되면: 생성자 혼자 타이머 취소 (더 이상 자동 삭제되지 않음)
-        if (room.getCurrentParticipants() == 2) {
-            room.resetAloneTimer();
-            log.info("생성자 혼자 타이머 취소 - 방ID: {}", roomId);
+    /**
+     * 목록에 표시되는 방 개수 (캐시 미스 시에만 호출)
+     */
+    private Long countListedRooms(String countKey) {
+        if (ALL_STUDY_FIELDS.equals(countKey)) {
+            return roomRepository.countByStatusIn(LISTED_STATUSES);
         }
+        return roomRepository.countByStudyFieldAndStatusIn(StudyField.valueOf(countKey), LISTED_STATUSES);
+    }
 
-        // 삭제 예정 상태였는데 2명 이상이 되면: 삭제 예약 취소하고 활성화
-        if (room.getStatus() == RoomStatus.PENDING_DELETE && room.getCurrentParticipants() >= 2) {
-            room.cancelDeleteSchedule();
-            log.info("방 삭제 예약 취소 - 방ID: {}, 현재인원: {}", roomId, room.getCurrentParticipants());
+    /**
+     * 한글 공부 분야 문자열을 Enum으로 변환
+     *
+     * @throws IllegalArgumentException 유효하지 않은 공부 분야인 경우
+     */
+    private StudyField parseStudyField(String studyFieldStr) {
+        StudyField studyField = StudyField.fromDescription(studyFieldStr.trim());
+        if (studyField == null) {
+            log.error("유효하지 않은 공부 분야: '{}'", studyFieldStr);
+            throw new IllegalArgumentException("유효하지 않은 공부 분야입니다: " + studyFieldStr);
         }
+        return studyField;
+    }
+
+    /**
+     * 오픈 스터디 방에 참여
+     *
+     * 참여 과정 및 검증 (RoomLifecycleEngine이 트랜잭션 하나에서 순서대로 처리):
+     * 1. 입장 기록 (이미 다른 방이나 해당 방에 있으면 실패, INSERT 한 번)
+     * 2. 레지스트리에서 입장 허용 (방 존재, 상태, 정원을 메모리에서 CAS로 판단)
+     *    - PENDING_DELETE나 DELETED 상태면 참여 불가
+     *    - 동시 입장에서도 정원을 넘지 않음
+     * 3. 현재 인원 증가 (상태/정원 조건부 UPDATE 한 번, 생성자 혼자 타이머도 함께 해제)
+     *    - 레지스트리는 노드 로컬이므로 다른 노드의 입장까지 포함한 정원은 DB 조건으로 확정
+     * 4. 참여자 추가
+     * 5. 공부 세션 및 타이머 자동 시작
+     * 6. 입장 이벤트 전송 (커밋 후)
+     * 검증 실패나 이후 단계 실패로 롤백되면 레지스트리의 자리도 반납됨
+     *
+     * @param roomId 참여할 방의 ID
+     * @param member 참여하려는 회원
+     * @return 참여 결과 DTO
+     * @throws AlreadyInRoomException 이미 다른 방에 참여 중인 경우
+     * @throws RoomNotFoundException 방을 찾을 수 없는 경우
+     * @throws RoomDeletingException 삭제 예정 상태의 방인 경우
+     * @throws RoomFullException 방이 가득 찬 경우
+     */
+    public RoomJoinResultDto joinRoom(Long roomId, MemberSummary member) {
+        log.info("방 참여 시도 - 방ID: {}, 회원: {}", roomId, member.username());
+
+        int currentParticipants = lifecycleEngine.join(
+            lifecyclePolicy, roomId, member.id(), member.username(), member.profileImage());
 
         log.info("방 참여 완료 - 방ID: {}, 회원: {}, 현재인원: {}/{}",
-            roomId, member.getUsername(), room.getCurrentParticipants(), room.getMaxParticipants());
+            roomId, member.username(), currentParticipants, roomRegistry.get(roomId).getMaxParticipants());
 
         return RoomJoinResultDto.success(roomId);
     }
@@ -257,11 +293,11 @@ public class OpenStudyRoomService {
     /**
      * 오픈 스터디 방에서 나가기
      *
-     * 나가기 과정:
-     * 1. 해당 방에 참여 중인지 확인
+     * 나가기 과정 (RoomLifecycleEngine이 트랜잭션 하나에서 순서대로 처리):
+     * 1. 참여자 테이블에서 제거 (참여 중이 아니면 예외)
      * 2. 공부 세션 종료 및 타이머 종료 (레벨업 처리)
-     * 3. 참여자 테이블에서 제거
-     * 4. 현재 인원 감소
+     * 3. 현재 인원 감소
+     * 4. 퇴장 이벤트 전송 (커밋 후)
      * 5. 남은 인원에 따른 자동 삭제 예약:
      *    - SRS 15.1.2: 1명 남음 → 5분 후 삭제 예약
      *    - SRS 15.1.3: 0명 남음 (빈 방) → 5분 후 삭제 예약
@@ -270,50 +306,32 @@ public class OpenStudyRoomService {
      * @param member 나가려는 회원
      * @throws IllegalStateException 해당 방에 참여하고 있지 않은 경우
      */
-    public void leaveRoom(Long roomId, Member member) {
-        log.info("방 나가기 시도 - 방ID: {}, 회원: {}", roomId, member.getUsername());
-
-        // 참여자 정보 조회 (없으면 예외 발생)
-        RoomParticipant participant = participantRepository.findByRoomIdAndMemberId(roomId, member.getId())
-            .orElseThrow(() -> new IllegalStateException("해당 방에 참여하고 있지 않습니다"));
-
-        OpenStudyRoom room = participant.getRoom();
-
-        // ✅ 공부 세션 종료 (레벨업 처리)
-        com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-            studySessionService.getActiveSession(member.getId());
-        if (activeSession != null) {
-            com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                studySessionService.endStudySession(activeSession.getId());
-            log.info("공부 세션 종료 - 회원: {}, 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                     member.getUsername(), result.studyMinutes(), result.leveledUp(), result.newLevel());
-        }
-        
-        // ✅ PersonalTimer 종료
-        try {
-            personalTimerService.endTimer(member.getId());
-            log.info("타이머 종료 완료 - 회원: {}", member.getUsername());
-        } catch (IllegalArgumentException e) {
-            log.warn("타이머 종료 실패 (활성 타이머 없음) - 회원: {}", member.getUsername());
-        }
+    public void leaveRoom(Long roomId, MemberSummary member) {
+        log.info("방 나가기 시도 - 방ID: {}, 회원: {}", roomId, member.username());
 
-        // 참여자 테이블에서 제거 및 현재 인원 감소
-        participantRepository.delete(participant);
-        room.decrementParticipants();
+        // 감소 후 DB 기준 남은 인원 (동시 입장/퇴장 반영)
+        int remainingCount = lifecycleEngine.leave(lifecyclePolicy, roomId, member.id());
+        log.info("방 나가기 완료 - 방ID: {}, 회원: {}, 남은인원: {}", roomId, member.username(), remainingCount);
 
-        // 나가기 전 인원 체크 (디버깅용)
-        int remainingCount = room.getCurrentParticipants();
-        log.info("방 나가기 완료 - 방ID: {}, 회원: {}, 남은인원: {}", roomId, member.getUsername(), remainingCount);
+        if (remainingCount > 1) {
+            return;
+        }
+        OpenStudyRoom room = roomRepository.findById(roomId)
+            .orElseThrow(RoomNotFoundException::new);
 
         // SRS 15.1.2: 1명 남으면 5분 후 삭제 예약
         if (remainingCount == 1) {
             room.scheduleDelete();
+            roomRegistry.changeStatus(roomId, RoomStatus.PENDING_DELETE);
+            deadlineScheduler.schedule(DeadlineType.OPEN_DELETE, roomId, room.getDeleteScheduledAt());
             log.info("방 삭제 예약 (1명 남음) - 방ID: {}, 삭제예정시간: {}, 현재인원: {}", 
                 roomId, room.getDeleteScheduledAt(), remainingCount);
         }
         // SRS 15.1.3: 빈 방이 되면 5분 후 삭제 예약
         else if (remainingCount == 0) {
             room.scheduleDelete();
+            roomRegistry.changeStatus(roomId, RoomStatus.PENDING_DELETE);
+            deadlineScheduler.schedule(DeadlineType.OPEN_DELETE, roomId, room.getDeleteScheduledAt());
             log.info("방 삭제 예약 (빈 방) - 방ID: {}, 삭제예정시간: {}, 현재인원: {}", 
                 roomId, room.getDeleteScheduledAt(), remainingCount);
         }
@@ -332,6 +350,19 @@ public class OpenStudyRoomService {
             .orElseThrow(RoomNotFoundException::new);
     }
 
+    /**
+     * 방 상세 정보 조회 (DTO 직접 조회, 생성자 username 포함)
+     *
+     * @param roomId 조회할 방의 ID
+     * @return 방 정보 DTO
+     * @throws RoomNotFoundException 방을 찾을 수 없는 경우
+     */
+    @Transactional(readOnly = true)
+    public OpenStudyRoomListDto getRoomDetail(Long roomId) {
+        return roomRepository.findListDtoById(roomId)
+            .orElseThrow(RoomNotFoundException::new);
+    }
+
     /**
      * 삭제 예정 시간이 지난 방 목록 조회
      * 스케줄러가 주기적으로 호출하여 삭제할 방을 찾음
@@ -356,6 +387,58 @@ public class OpenStudyRoomService {
         return roomRepository.findAloneRoomsExpired(fiveMinutesAgo);
     }
 
+    /**
+     * 생성자 혼자 타이머가 진행 중인 활성 방 목록 조회
+     * 애플리케이션 시작 시 마감 스케줄러 복구용
+     *
+     * @return 혼자 타이머가 걸린 방 목록
+     */
+    @Transactional(readOnly = true)
+    public List<OpenStudyRoom> getAloneTimerRooms() {
+        return roomRepository.findAloneTimerRooms();
+    }
+
+    /**
+     * 삭제 예약된 방 목록 조회 (삭제 예정 시간과 무관하게 전체)
+     * 애플리케이션 시작 시 마감 스케줄러 복구용
+     *
+     * @return 삭제 예약된 방 목록
+     */
+    @Transactional(readOnly = true)
+    public List<OpenStudyRoom> getPendingDeleteRooms() {
+        return roomRepository.findByStatus(RoomStatus.PENDING_DELETE);
+    }
+
+    /**
+     * 생성자 혼자 타이머 마감 처리 (마감 스케줄러 전용)
+     * 마감 등록 이후 다른 참여자가 들어왔을 수 있으므로 DB 기준으로 조건을 다시 확인
+     *
+     * @param roomId 마감된 방의 ID
+     */
+    public void expireAloneRoom(Long roomId) {
+        OpenStudyRoom room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || room.getStatus() != RoomStatus.ACTIVE || !room.isAloneTimerExpired()) {
+            log.debug("혼자 타이머 마감 무시 (조건 불충족) - 방ID: {}", roomId);
+            return;
+        }
+        deleteAloneRoom(roomId, "5분 동안 다른 참여자가 없어 방이 삭제됩니다.");
+    }
+
+    /**
+     * 삭제 예약 마감 처리 (마감 스케줄러 전용)
+     * 마감 등록 이후 삭제 예약이 취소되었을 수 있으므로 DB 기준으로 조건을 다시 확인
+     *
+     * @param roomId 마감된 방의 ID
+     */
+    public void expireScheduledRoom(Long roomId) {
+        OpenStudyRoom room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || room.getStatus() != RoomStatus.PENDING_DELETE || !room.isDeleteScheduleExpired()) {
+            log.debug("삭제 예약 마감 무시 (조건 불충족) - 방ID: {}", roomId);
+            return;
+        }
+        deleteRoom(roomId);
+    }
+
     /**
      * 방 삭제 처리 (스케줄러 전용)
      * SRS 15.1.2, 15.1.3: 삭제 예약된 방을 실제로 삭제
@@ -363,8 +446,8 @@ public class OpenStudyRoomService {
      * 삭제 과정:
      * 1. 방이 존재하는지 확인
      * 2. 현재 인원이 1 이하인지 재확인 (동시성 문제 방지)
-     * 3. 모든 참여자의 세션과 타이머 종료 (레벨업 처리)
-     * 4. 모든 참여자를 DB에서 삭제
+     * 3. 모든 참여자의 세션과 타이머 일괄 종료 (레벨업 처리, RoomTeardownService)
+     * 4. 모든 참여자를 DB에서 일괄 삭제
      * 5. currentParticipants를 0으로 업데이트
      * 6. 방 상태를 DELETED로 변경 (Soft Delete)
      *
@@ -379,59 +462,40 @@ public class OpenStudyRoomService {
                 roomId, room.getTitle(), room.getCurrentParticipants(), room.getStatus(), room.getDeleteScheduledAt());
 
             // 안전장치: 현재 인원이 2명 이상이면 삭제하지 않음
-            if (room.getCurrentParticipants() >= 2) {
+            // (DB에 아직 반영되지 않은 입장은 레지스트리에서 확인)
+            if (room.getCurrentParticipants() >= 2 || !roomRegistry.tryClose(roomId)) {
                 log.warn("방 삭제 취소 - 현재 인원이 2명 이상 - 방ID: {}, 현재인원: {}", 
                     roomId, room.getCurrentParticipants());
                 // 삭제 예약도 취소
                 room.cancelDeleteSchedule();
+                roomRegistry.changeStatus(roomId, RoomStatus.ACTIVE);
+                deadlineScheduler.cancel(DeadlineType.OPEN_DELETE, roomId);
                 return;
             }
 
             // 삭제 전 참여자 수 기록 (로깅용)
             int participantCount = room.getCurrentParticipants();
 
-            // ✅ 모든 참여자의 세션과 타이머 종료 (레벨업 처리)
-            List<RoomParticipant> participants = participantRepository.findByRoomId(roomId);
-            log.info("방 삭제 - 참여자 수: {} (DB 조회)", participants.size());
-            
-            for (RoomParticipant participant : participants) {
-                Long memberId = participant.getMember().getId();
-                String username = participant.getMember().getUsername();
-                
-                // 공부 세션 종료 (레벨업 처리)
-                com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-                    studySessionService.getActiveSession(memberId);
-                if (activeSession != null) {
-                    com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                        studySessionService.endStudySession(activeSession.getId());
-                    log.info("방 삭제 - 참여자 세션 종료 - 회원: {} (ID: {}), 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                             username, memberId, result.studyMinutes(), result.leveledUp(), result.newLevel());
-                } else {
-                    log.warn("방 삭제 - 참여자 활성 세션 없음 - 회원: {} (ID: {})", username, memberId);
-                }
-                
-                // PersonalTimer 종료
-                try {
-                    personalTimerService.endTimer(memberId);
-                    log.info("방 삭제 - 참여자 타이머 종료 완료 - 회원: {} (ID: {})", username, memberId);
-                } catch (IllegalArgumentException e) {
-                    log.warn("방 삭제 - 참여자 타이머 종료 실패 (활성 타이머 없음) - 회원: {} (ID: {})", username, memberId);
-                }
-            }
+            // ✅ 모든 참여자의 세션과 타이머 일괄 종료 (레벨업 처리)
+            List<Long> memberIds = participantRepository.findMemberIdsByRoomId(roomId);
+            log.info("방 삭제 - 참여자 수: {} (DB 조회)", memberIds.size());
+            roomTeardownService.endSessionsAndTimers(memberIds);
 
             // 참여자 테이블에서 모두 제거
-            participantRepository.deleteByRoomId(roomId);
-            log.info("방 삭제 - 참여자 테이블에서 {} 명 삭제", participants.size());
+            int deletedParticipants = participantRepository.deleteAllByRoomId(roomId);
+            memberPresenceService.closeRoom(ChatRoomType.OPEN, roomId);
+            participantService.evictRoster(roomId);
+            presencePublisher.publishRoomClosed(ChatRoomType.OPEN, roomId);
+            log.info("방 삭제 - 참여자 테이블에서 {} 명 삭제", deletedParticipants);
 
             // 방 엔티티의 currentParticipants를 0으로 업데이트
             // (방 상세 조회 시 정확한 참여자 수 표시를 위함)
-            while (room.getCurrentParticipants() > 0) {
-                room.decrementParticipants();
-            }
+            room.clearParticipants();
 
             // Soft Delete: DB에서 실제 삭제하지 않고 상태만 변경
             // (데이터 보존 및 이력 관리를 위함)
             room.delete();
+            TransactionCallbacks.afterCommit(roomCountCache::invalidateAll);
 
             log.info("방 삭제 완료 - 방ID: {}, 삭제된 참여자 수: {}", roomId, participantCount);
         } else {
@@ -457,58 +521,109 @@ public class OpenStudyRoomService {
                 roomId, room.getTitle(), reason, room.getCurrentParticipants(), room.getAloneTimerStartedAt());
 
             // 안전장치: 현재 인원이 2명 이상이면 삭제하지 않음
-            if (room.getCurrentParticipants() >= 2) {
+            // (DB에 아직 반영되지 않은 입장은 레지스트리에서 확인)
+            if (room.getCurrentParticipants() >= 2 || !roomRegistry.tryClose(roomId)) {
                 log.warn("방 삭제 취소 (생성자 혼자 아님) - 방ID: {}, 현재인원: {}", 
                     roomId, room.getCurrentParticipants());
                 // 혼자 타이머도 리셋
                 room.resetAloneTimer();
+                deadlineScheduler.cancel(DeadlineType.OPEN_ALONE, roomId);
                 return;
             }
 
-            // ✅ 모든 참여자(생성자)의 세션과 타이머 종료
-            List<RoomParticipant> participants = participantRepository.findByRoomId(roomId);
-            log.info("방 삭제(생성자 혼자) - 참여자 수: {} (DB 조회)", participants.size());
-            
-            for (RoomParticipant participant : participants) {
-                Long memberId = participant.getMember().getId();
-                String username = participant.getMember().getUsername();
-                
-                // 공부 세션 종료 (레벨업 처리)
-                com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession activeSession = 
-                    studySessionService.getActiveSession(memberId);
-                if (activeSession != null) {
-                    com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto result = 
-                        studySessionService.endStudySession(activeSession.getId());
-                    log.info("방 삭제(생성자 혼자) - 세션 종료 - 회원: {} (ID: {}), 공부시간: {}분, 레벨업: {}, 새레벨: {}", 
-                             username, memberId, result.studyMinutes(), result.leveledUp(), result.newLevel());
-                } else {
-                    log.warn("방 삭제(생성자 혼자) - 활성 세션 없음 - 회원: {} (ID: {})", username, memberId);
-                }
-                
-                // PersonalTimer 종료
-                try {
-                    personalTimerService.endTimer(memberId);
-                    log.info("방 삭제(생성자 혼자) - 타이머 종료 완료 - 회원: {} (ID: {})", username, memberId);
-                } catch (IllegalArgumentException e) {
-                    log.warn("방 삭제(생성자 혼자) - 타이머 종료 실패 (활성 타이머 없음) - 회원: {} (ID: {})", username, memberId);
-                }
-            }
+            // ✅ 모든 참여자(생성자)의 세션과 타이머 일괄 종료
+            List<Long> memberIds = participantRepository.findMemberIdsByRoomId(roomId);
+            log.info("방 삭제(생성자 혼자) - 참여자 수: {} (DB 조회)", memberIds.size());
+            roomTeardownService.endSessionsAndTimers(memberIds);
 
             // 참여자 테이블에서 모두 제거
-            participantRepository.deleteByRoomId(roomId);
-            log.info("방 삭제(생성자 혼자) - 참여자 테이블에서 {} 명 삭제", participants.size());
+            int deletedParticipants = participantRepository.deleteAllByRoomId(roomId);
+            memberPresenceService.closeRoom(ChatRoomType.OPEN, roomId);
+            participantService.evictRoster(roomId);
+            presencePublisher.publishRoomClosed(ChatRoomType.OPEN, roomId);
+            log.info("방 삭제(생성자 혼자) - 참여자 테이블에서 {} 명 삭제", deletedParticipants);
 
             // currentParticipants를 0으로 업데이트
-            while (room.getCurrentParticipants() > 0) {
-                room.decrementParticipants();
-            }
+            room.clearParticipants();
 
             // Soft Delete
             room.delete();
+            TransactionCallbacks.afterCommit(roomCountCache::invalidateAll);
 
             log.info("방 삭제 완료 (생성자 혼자) - 방ID: {}", roomId);
         } else {
             log.warn("방 삭제 실패 (생성자 혼자) - 방을 찾을 수 없음 - 방ID: {}", roomId);
         }
     }
+
+    /**
+     * 오픈 스터디 입장/퇴장 규칙 (RoomLifecycleEngine에서 사용)
+     * - 정원/상태는 레지스트리(메모리 CAS)에서 먼저 판단하고 DB 조건부 UPDATE로 확정
+     * - 참여자 목록 캐시는 참여자 변경 시 무효화
+     */
+    private class OpenStudyRoomLifecyclePolicy implements RoomLifecyclePolicy {
+
+        @Override
+        public ChatRoomType roomType() {
+            return ChatRoomType.OPEN;
+        }
+
+        @Override
+        public RuntimeException alreadyInRoom(boolean sameRoom) {
+            return sameRoom ? new AlreadyInRoomException("이미 해당 방에 참여 중입니다") : new AlreadyInRoomException();
+        }
+
+        @Override
+        public RuntimeException alreadyInRoomOnCreate() {
+            return new AlreadyInRoomException("방을 생성하려면 먼저 현재 방에서 나가야 합니다");
+        }
+
+        @Override
+        public RuntimeException notInRoom() {
+            return new IllegalStateException("해당 방에 참여하고 있지 않습니다");
+        }
+
+        @Override
+        public int admit(Long roomId) {
+            // 입장 허용 여부를 메모리에서 원자적으로 판단 (DB 조회 없음)
+            // SRS 15.1.4: 삭제 예정 방은 새로운 참여 불가, 정원 초과 시 거절
+            int currentParticipants = roomRegistry.admit(roomId);
+
+            // 인원 증가 + 생성자 혼자 타이머 해제 (2명 이상이 되므로 더 이상 자동 삭제되지 않음)
+            // DB 조건에 걸리면 레지스트리가 DB와 어긋난 것이므로 레코드를 버리고 다시 읽게 함
+            if (roomRepository.incrementParticipants(roomId) == 0) {
+                roomRegistry.discard(roomId);
+                throw new RoomFullException();
+            }
+            deadlineScheduler.cancel(DeadlineType.OPEN_ALONE, roomId);
+            return currentParticipants;
+        }
+
+        @Override
+        public void addParticipant(Long roomId, Long memberId) {
+            // 방, 회원 모두 프록시 참조만 사용
+            RoomParticipant participant = RoomParticipant.builder()
+                .room(roomRepository.getReferenceById(roomId))
+                .member(memberRepository.getReferenceById(memberId))
+                .build();
+            participantRepository.save(participant);
+            participantService.evictRoster(roomId);
+        }
+
+        @Override
+        public boolean removeParticipant(Long roomId, Long memberId) {
+            if (participantRepository.deleteByRoomIdAndMemberId(roomId, memberId) == 0) {
+                return false;
+            }
+            participantService.evictRoster(roomId);
+            return true;
+        }
+
+        @Override
+        public int release(Long roomId) {
+            roomRepository.decrementParticipants(roomId);
+            roomRegistry.release(roomId);
+            return roomRepository.findCurrentParticipantsById(roomId);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package com.team.LetsStudyNow_rg.domain.openstudy;
 
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.ParticipantResponseDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -35,19 +37,20 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
     List<RoomParticipant> findByRoomId(Long roomId);
     
     /**
-     * 특정 회원이 현재 참여 중인 활성 방 조회
-     * 한 명의 회원은 동시에 하나의 활성 방에만 참여 가능
+     * 특정 방의 참여자 목록을 회원 정보와 함께 조회 (쿼리 한 번)
+     * 참여자 목록 API 전용 - 참여자마다 Member를 따로 조회하지 않음
      * 
-     * JPQL 사용:
-     * - RoomParticipant와 연관된 OpenStudyRoom의 상태가 ACTIVE인 경우만 조회
-     * - 방 생성이나 참여 시 중복 검증용으로 사용
+     * 타이머 상태는 메모리 타이머 엔진에서 채움 (timerStatus는 null로 조회됨)
      * 
-     * @param memberId 회원 ID
-     * @return 참여 중인 활성 방 정보 (없으면 Optional.empty())
+     * @param roomId 방 ID
+     * @return 입장 순서대로 정렬된 참여자 목록
      */
-    @Query("SELECT rp FROM RoomParticipant rp WHERE rp.member.id = :memberId " +
-           "AND rp.room.status = 'ACTIVE'")
-    Optional<RoomParticipant> findActiveRoomByMemberId(@Param("memberId") Long memberId);
+    @Query("SELECT new com.team.LetsStudyNow_rg.domain.openstudy.dto.ParticipantResponseDto(" +
+           "m.id, m.username, m.profileImage) " +
+           "FROM RoomParticipant rp JOIN rp.member m " +
+           "WHERE rp.room.id = :roomId " +
+           "ORDER BY rp.joinedAt")
+    List<ParticipantResponseDto> findRosterByRoomId(@Param("roomId") Long roomId);
     
     /**
      * 특정 방의 특정 회원 참여 정보 조회
@@ -59,10 +62,36 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
      */
     Optional<RoomParticipant> findByRoomIdAndMemberId(Long roomId, Long memberId);
     
+    /**
+     * 특정 방의 참여자 회원 ID 목록 조회
+     * 방 삭제 시 일괄 정리 대상 확인용 (엔티티를 로딩하지 않음)
+     * 
+     * @param roomId 방 ID
+     * @return 참여자 회원 ID 목록
+     */
+    @Query("SELECT rp.member.id FROM RoomParticipant rp WHERE rp.room.id = :roomId")
+    List<Long> findMemberIdsByRoomId(@Param("roomId") Long roomId);
+    
     /**
      * 특정 방의 모든 참여자 삭제
-     * 방 삭제 시 해당 방의 모든 참여자를 일괄 삭제
+     * 방 삭제 시 해당 방의 모든 참여자를 DELETE 한 번으로 일괄 삭제
+     * 
      * @param roomId 방 ID
+     * @return 삭제된 참여자 수
+     */
+    @Modifying
+    @Query("DELETE FROM RoomParticipant rp WHERE rp.room.id = :roomId")
+    int deleteAllByRoomId(@Param("roomId") Long roomId);
+    
+    /**
+     * 특정 방의 특정 회원 참여 정보 삭제 (방 나가기)
+     * 조회 없이 DELETE 한 번으로 삭제하고, 삭제 여부로 참여 중이었는지 판단
+     * 
+     * @param roomId 방 ID
+     * @param memberId 회원 ID
+     * @return 삭제된 행 수 (참여 중이 아니었으면 0)
      */
-    void deleteByRoomId(Long roomId);
+    @Modifying
+    @Query("DELETE FROM RoomParticipant rp WHERE rp.room.id = :roomId AND rp.member.id = :memberId")
+    int deleteByRoomIdAndMemberId(@Param("roomId") Long roomId, @Param("memberId") Long memberId);
 }
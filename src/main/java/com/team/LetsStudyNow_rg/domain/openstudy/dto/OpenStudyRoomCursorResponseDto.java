@@ -0,0 +1,44 @@
+package com.team.LetsStudyNow_rg.domain.openstudy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 방 목록 응답 DTO
+ * COUNT 쿼리 없이 다음 페이지 존재 여부만 판단 (Slice)
+ *
+ * 다음 페이지 요청 시 nextCursorCreatedAt, nextCursorId를 그대로 cursorCreatedAt, cursorId로 전달
+ *
+ * @param content 현재 페이지의 방 목록
+ * @param size 한 페이지당 데이터 개수
+ * @param hasNext 다음 페이지 존재 여부
+ * @param nextCursorCreatedAt 다음 페이지 커서 - 마지막 방의 생성 시간 (다음 페이지가 없으면 null)
+ * @param nextCursorId 다음 페이지 커서 - 마지막 방의 ID (다음 페이지가 없으면 null)
+ * @param totalElements 전체 방 개수 (includeTotal 요청 시에만, 최대 30초 지연된 캐시 값)
+ */
+public record OpenStudyRoomCursorResponseDto(
+    List<OpenStudyRoomListDto> content,
+    int size,
+    boolean hasNext,
+    LocalDateTime nextCursorCreatedAt,
+    Long nextCursorId,
+    Long totalElements
+) {
+    /**
+     * 조회 결과로 응답 생성 (다음 커서는 마지막 방 기준)
+     *
+     * @param content 현재 페이지의 방 목록
+     * @param size 한 페이지당 데이터 개수
+     * @param hasNext 다음 페이지 존재 여부
+     * @param totalElements 전체 방 개수 (없으면 null)
+     * @return OpenStudyRoomCursorResponseDto
+     */
+    public static OpenStudyRoomCursorResponseDto of(List<OpenStudyRoomListDto> content, int size,
+                                                    boolean hasNext, Long totalElements) {
+        if (!hasNext || content.isEmpty()) {
+            return new OpenStudyRoomCursorResponseDto(content, size, false, null, null, totalElements);
+        }
+        OpenStudyRoomListDto last = content.get(content.size() - 1);
+        return new OpenStudyRoomCursorResponseDto(content, size, true, last.createdAt(), last.id(), totalElements);
+    }
+}
@@ -1,6 +1,9 @@
 package com.team.LetsStudyNow_rg.domain.openstudy.dto;
 
 import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoom;
+import com.team.LetsStudyNow_rg.domain.openstudy.StudyField;
+
+import java.time.LocalDateTime;
 
 /**
  * 오픈 스터디 방 목록/상세 조회 응답 DTO
@@ -38,8 +41,32 @@ public record OpenStudyRoomListDto(
     boolean isFull,
     
     // 방 생성자의 아이디 (username)
-    String creatorUsername
+    String creatorUsername,
+    
+    // 방 생성 시간 (커서 기반 목록 조회의 커서로 사용)
+    LocalDateTime createdAt
 ) {
+    /**
+     * JPQL 생성자 표현식 전용 생성자
+     * OpenStudyRoomRepository의 목록/상세 조회 쿼리가 엔티티 로딩 없이 바로 DTO를 생성할 때 사용
+     * (생성자 username은 JOIN으로 함께 조회 - 방마다 Member를 추가 조회하지 않음)
+     */
+    public OpenStudyRoomListDto(Long id, String title, String description, StudyField studyField,
+                                int currentParticipants, int maxParticipants,
+                                String creatorUsername, LocalDateTime createdAt) {
+        this(
+            id,
+            title,
+            description,
+            studyField.getDescription(),
+            currentParticipants,
+            maxParticipants,
+            currentParticipants >= maxParticipants,
+            creatorUsername,
+            createdAt
+        );
+    }
+    
     /**
      * OpenStudyRoom 엔티티를 DTO로 변환하는 정적 팩토리 메서드
      * 
@@ -65,7 +92,8 @@ public record OpenStudyRoomListDto(
             room.getCurrentParticipants(),
             room.getMaxParticipants(),
             room.isFull(),
-            room.getCreator().getUsername()
+            room.getCreator().getUsername(),
+            room.getCreatedAt()
         );
     }
 }
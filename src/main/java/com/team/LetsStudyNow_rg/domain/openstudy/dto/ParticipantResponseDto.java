@@ -34,4 +34,11 @@ public class ParticipantResponseDto {
      * 공부/휴식 상태 (STUDYING 또는 RESTING)
      */
     private TimerStatus timerStatus;
+    
+    /**
+     * JPQL 생성자 표현식용 (타이머 상태 제외)
+     */
+    public ParticipantResponseDto(Long memberId, String username, String profileImage) {
+        this(memberId, username, profileImage, null);
+    }
 }
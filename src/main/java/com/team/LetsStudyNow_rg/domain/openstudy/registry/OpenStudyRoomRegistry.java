@@ -0,0 +1,130 @@
+package com.team.LetsStudyNow_rg.domain.openstudy.registry;
+
+import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoom;
+import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoomRepository;
+import com.team.LetsStudyNow_rg.domain.openstudy.RoomStatus;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomNotFoundException;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 오픈 스터디 방 인원/상태를 메모리에서 관리하는 레지스트리 (노드 로컬)
+ *
+ * 입장 허용 여부를 DB 조회 없이 CAS로 판단하고, DB에는 결과만 반영
+ * - 처음 접근하는 방은 DB에서 한 번 읽어서 등록
+ * - 입장: 즉시 반영, 트랜잭션 롤백 시 자리 반납
+ * - 퇴장/상태 변경: 커밋 후 반영
+ * - 삭제된 방은 레지스트리에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OpenStudyRoomRegistry {
+
+    private final OpenStudyRoomRepository roomRepository;
+
+    private final ConcurrentMap<Long, RoomOccupancy> rooms = new ConcurrentHashMap<>();
+
+    /**
+     * 방 레코드 조회 (없으면 DB에서 읽어서 등록)
+     *
+     * @throws RoomNotFoundException 방이 없거나 이미 삭제된 경우
+     */
+    public RoomOccupancy get(Long roomId) {
+        RoomOccupancy occupancy = rooms.get(roomId);
+        if (occupancy != null) {
+            return occupancy;
+        }
+
+        OpenStudyRoom room = roomRepository.findById(roomId)
+            .orElseThrow(RoomNotFoundException::new);
+
+        // 삭제된 방은 등록하지 않음 (레지스트리가 삭제된 방으로 계속 커지는 것 방지)
+        if (room.getStatus() == RoomStatus.DELETED) {
+            throw new RoomNotFoundException("이미 삭제된 방입니다");
+        }
+
+        RoomOccupancy loaded = RoomOccupancy.from(room);
+        RoomOccupancy existing = rooms.putIfAbsent(roomId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 새로 생성된 방 등록 (커밋 후)
+     */
+    public void register(OpenStudyRoom room) {
+        RoomOccupancy occupancy = RoomOccupancy.from(room);
+        TransactionCallbacks.afterCommit(() -> rooms.put(room.getId(), occupancy));
+    }
+
+    /**
+     * 입장 허용 (CAS)
+     * 트랜잭션이 롤백되면 자리를 자동으로 반납
+     *
+     * @return 입장 후 현재 인원
+     */
+    public int admit(Long roomId) {
+        RoomOccupancy occupancy = get(roomId);
+        int currentParticipants = occupancy.tryAdmit();
+        TransactionCallbacks.afterRollback(occupancy::release);
+        return currentParticipants;
+    }
+
+    /**
+     * DB와 어긋난 레코드 폐기 (롤백 후)
+     * 다른 노드의 입장/퇴장으로 DB 인원이 달라진 경우, 다음 접근 시 DB 기준으로 다시 읽음
+     */
+    public void discard(Long roomId) {
+        TransactionCallbacks.afterRollback(() -> rooms.remove(roomId));
+    }
+
+    /**
+     * 퇴장 반영 (커밋 후)
+     */
+    public void release(Long roomId) {
+        TransactionCallbacks.afterCommit(() -> {
+            RoomOccupancy occupancy = rooms.get(roomId);
+            if (occupancy != null) {
+                occupancy.release();
+            }
+        });
+    }
+
+    /**
+     * 방 상태 변경 반영 (커밋 후)
+     */
+    public void changeStatus(Long roomId, RoomStatus status) {
+        TransactionCallbacks.afterCommit(() -> {
+            RoomOccupancy occupancy = rooms.get(roomId);
+            if (occupancy != null) {
+                occupancy.changeStatus(status);
+            }
+        });
+    }
+
+    /**
+     * 삭제 확정 시도
+     * 성공하면 이후 입장은 메모리에서 바로 거절되고, 커밋 후 레지스트리에서 제거
+     * 롤백되면 레코드를 버려서 다음 접근 시 DB 기준으로 다시 읽음
+     *
+     * @return true: 삭제 진행 가능, false: 메모리상 2명 이상이라 삭제하면 안 됨
+     */
+    public boolean tryClose(Long roomId) {
+        RoomOccupancy occupancy = rooms.get(roomId);
+        if (occupancy == null) {
+            // 이 노드에서 관리 중인 입장이 없음 - DB 기준으로 판단
+            return true;
+        }
+        if (!occupancy.tryClose()) {
+            return false;
+        }
+        TransactionCallbacks.afterCommit(() -> rooms.remove(roomId, occupancy));
+        TransactionCallbacks.afterRollback(() -> rooms.remove(roomId, occupancy));
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package com.team.LetsStudyNow_rg.domain.openstudy.registry;
+
+import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoom;
+import com.team.LetsStudyNow_rg.domain.openstudy.RoomStatus;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomDeletingException;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomFullException;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomNotFoundException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오픈 스터디 방 한 개의 메모리상 인원/상태 레코드
+ *
+ * 인원과 상태를 하나의 long 값에 묶어서 CAS로 함께 갱신
+ * - 상위 32비트: 방 상태 (RoomStatus ordinal)
+ * - 하위 32비트: 현재 참여 인원
+ * 상태 확인과 정원 확인이 원자적으로 이루어지므로 동시 입장에서도 정원을 넘지 않음
+ */
+public class RoomOccupancy {
+
+    private static final RoomStatus[] STATUSES = RoomStatus.values();
+
+    private final int maxParticipants;
+    private final AtomicLong state;
+
+    public RoomOccupancy(int maxParticipants, int currentParticipants, RoomStatus status) {
+        this.maxParticipants = maxParticipants;
+        this.state = new AtomicLong(pack(status, currentParticipants));
+    }
+
+    /**
+     * DB에서 읽은 방 엔티티로 레코드 생성
+     */
+    public static RoomOccupancy from(OpenStudyRoom room) {
+        return new RoomOccupancy(room.getMaxParticipants(), room.getCurrentParticipants(), room.getStatus());
+    }
+
+    /**
+     * 입장 시도 (CAS)
+     *
+     * @return 입장 후 현재 인원
+     * @throws RoomDeletingException 삭제 예정 상태의 방인 경우
+     * @throws RoomNotFoundException 이미 삭제된 방인 경우
+     * @throws RoomFullException 방이 가득 찬 경우
+     */
+    public int tryAdmit() {
+        while (true) {
+            long current = state.get();
+            RoomStatus status = statusOf(current);
+            int count = countOf(current);
+
+            if (status == RoomStatus.PENDING_DELETE) {
+                throw new RoomDeletingException();
+            }
+            if (status == RoomStatus.DELETED) {
+                throw new RoomNotFoundException("이미 삭제된 방입니다");
+            }
+            if (count >= maxParticipants) {
+                throw new RoomFullException();
+            }
+
+            if (state.compareAndSet(current, pack(status, count + 1))) {
+                return count + 1;
+            }
+        }
+    }
+
+    /**
+     * 퇴장 (0 미만으로 내려가지 않음)
+     *
+     * @return 퇴장 후 현재 인원
+     */
+    public int release() {
+        while (true) {
+            long current = state.get();
+            int count = countOf(current);
+            int next = count > 0 ? count - 1 : 0;
+            if (state.compareAndSet(current, pack(statusOf(current), next))) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * 인원은 유지하고 상태만 변경
+     */
+    public void changeStatus(RoomStatus status) {
+        while (true) {
+            long current = state.get();
+            if (state.compareAndSet(current, pack(status, countOf(current)))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 삭제 확정 시도
+     * 인원이 1명 이하일 때만 DELETED로 바꿔서, 삭제 도중 새 입장이 끼어들지 못하게 함
+     *
+     * @return true: 삭제 확정, false: 그 사이 2명 이상이 되어 삭제하면 안 됨
+     */
+    public boolean tryClose() {
+        while (true) {
+            long current = state.get();
+            if (countOf(current) >= 2) {
+                return false;
+            }
+            if (state.compareAndSet(current, pack(RoomStatus.DELETED, 0))) {
+                return true;
+            }
+        }
+    }
+
+    public int getMaxParticipants() {
+        return maxParticipants;
+    }
+
+    public int getCurrentParticipants() {
+        return countOf(state.get());
+    }
+
+    public RoomStatus getStatus() {
+        return statusOf(state.get());
+    }
+
+    private static long pack(RoomStatus status, int count) {
+        return ((long) status.ordinal() << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    private static RoomStatus statusOf(long value) {
+        return STATUSES[(int) (value >>> 32)];
+    }
+
+    private static int countOf(long value) {
+        return (int) value;
+    }
+}
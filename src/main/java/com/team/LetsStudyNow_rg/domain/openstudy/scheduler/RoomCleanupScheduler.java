@@ -2,8 +2,13 @@ package com.team.LetsStudyNow_rg.domain.openstudy.scheduler;
 
 import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoom;
 import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoomService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomDeadlineScheduler.DeadlineType;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -11,14 +16,18 @@ import java.util.List;
 
 /**
  * 오픈 스터디 방 자동 삭제 스케줄러
- * Spring의 @Scheduled를 사용하여 주기적으로 실행
  * 
  * 주요 기능:
  * 1. SRS 15.1.1: 생성자 혼자 5분 경과한 방 삭제
  * 2. SRS 15.1.2, 15.1.3: 삭제 예약된 방 삭제
  * 
- * 실행 주기: 1분마다 (60초)
- * 시작 지연: 30초 (애플리케이션 시작 후 안정화 시간 확보)
+ * 삭제는 RoomDeadlineScheduler가 방마다 마감 시간에 정확히 실행
+ * - 방 생성/나가기 시 OpenStudyRoomService가 마감 등록
+ * - 애플리케이션 시작 시 DB 기준으로 마감 복구
+ * 
+ * 아래 @Scheduled 메서드는 마감 처리 실패 등으로 남은 방을 정리하는 안전장치
+ * 실행 주기: 10분마다
+ * 시작 지연: 1분 (애플리케이션 시작 후 안정화 시간 확보)
  */
 @Component
 @RequiredArgsConstructor
@@ -26,13 +35,50 @@ import java.util.List;
 public class RoomCleanupScheduler {
     
     private final OpenStudyRoomService openStudyRoomService;
+    private final RoomDeadlineScheduler deadlineScheduler;
+    
+    /**
+     * 마감 종류별 처리 핸들러 등록
+     */
+    @PostConstruct
+    public void registerDeadlineHandlers() {
+        deadlineScheduler.registerHandler(DeadlineType.OPEN_ALONE, openStudyRoomService::expireAloneRoom);
+        deadlineScheduler.registerHandler(DeadlineType.OPEN_DELETE, openStudyRoomService::expireScheduledRoom);
+    }
+    
+    /**
+     * 애플리케이션 시작 시 DB 기준으로 마감 복구
+     * 이미 지난 마감은 즉시 실행됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreDeadlines() {
+        try {
+            List<OpenStudyRoom> aloneRooms = openStudyRoomService.getAloneTimerRooms();
+            for (OpenStudyRoom room : aloneRooms) {
+                deadlineScheduler.schedule(DeadlineType.OPEN_ALONE, room.getId(), room.getAloneTimerExpiresAt());
+            }
+            
+            List<OpenStudyRoom> pendingRooms = openStudyRoomService.getPendingDeleteRooms();
+            for (OpenStudyRoom room : pendingRooms) {
+                if (room.getDeleteScheduledAt() != null) {
+                    deadlineScheduler.schedule(DeadlineType.OPEN_DELETE, room.getId(), room.getDeleteScheduledAt());
+                }
+            }
+            
+            log.info("오픈 스터디 방 마감 복구 완료 - 혼자 타이머: {}개, 삭제 예약: {}개",
+                aloneRooms.size(), pendingRooms.size());
+        } catch (Exception e) {
+            // 복구 실패 시 안전장치 스케줄러가 처리
+            log.error("오픈 스터디 방 마감 복구 중 오류: {}", e.getMessage(), e);
+        }
+    }
     
     /**
      * SRS 15.1.1: 생성자 혼자 5분 경과한 방 자동 삭제
      * 
-     * 실행 조건:
-     * - 매 1분마다 실행 (fixedRate = 60000ms)
-     * - 애플리케이션 시작 30초 후부터 실행 (initialDelay = 30000ms)
+     * 실행 조건 (안전장치):
+     * - 매 10분마다 실행 (fixedRate = 600000ms)
+     * - 애플리케이션 시작 1분 후부터 실행 (initialDelay = 60000ms)
      * 
      * 동작 과정:
      * 1. 생성 후 5분 동안 생성자 혼자 있는 방 조회
@@ -43,7 +89,7 @@ public class RoomCleanupScheduler {
      * - 개별 방 삭제 실패: 해당 방만 스킵하고 나머지 방은 계속 처리
      * - 전체 로직 실패: 에러 로그 남기고 다음 실행 주기까지 대기
      */
-    @Scheduled(fixedRate = 60000, initialDelay = 30000)
+    @Scheduled(fixedRate = 600000, initialDelay = 60000)
     public void deleteAloneRooms() {
         log.debug("=== 생성자 혼자 있는 방 확인 시작 ===");
         
@@ -84,9 +130,9 @@ public class RoomCleanupScheduler {
     /**
      * SRS 15.1.2, 15.1.3: 삭제 예정 시간이 지난 방 자동 삭제
      * 
-     * 실행 조건:
-     * - 매 1분마다 실행 (fixedRate = 60000ms)
-     * - 애플리케이션 시작 30초 후부터 실행 (initialDelay = 30000ms)
+     * 실행 조건 (안전장치):
+     * - 매 10분마다 실행 (fixedRate = 600000ms)
+     * - 애플리케이션 시작 1분 후부터 실행 (initialDelay = 60000ms)
      * 
      * 삭제 대상:
      * - 15.1.2: 참여자가 1명이 되어 5분 경과한 방
@@ -100,7 +146,7 @@ public class RoomCleanupScheduler {
      * 예외 처리:
      * - deleteAloneRooms()와 동일한 방식으로 처리
      */
-    @Scheduled(fixedRate = 60000, initialDelay = 30000)
+    @Scheduled(fixedRate = 600000, initialDelay = 60000)
     public void deleteScheduledRooms() {
         log.debug("=== 삭제 예정 방 확인 시작 ===");
         
@@ -1,19 +1,17 @@
 package com.team.LetsStudyNow_rg.domain.openstudy.service;
 
-import com.team.LetsStudyNow_rg.domain.member.entity.Member;
-import com.team.LetsStudyNow_rg.domain.openstudy.RoomParticipant;
 import com.team.LetsStudyNow_rg.domain.openstudy.RoomParticipantRepository;
 import com.team.LetsStudyNow_rg.domain.openstudy.dto.ParticipantResponseDto;
-import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
+import com.team.LetsStudyNow_rg.domain.timer.engine.PersonalTimerEngine;
 import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
-import com.team.LetsStudyNow_rg.domain.timer.repository.PersonalTimerRepository;
+import com.team.LetsStudyNow_rg.global.cache.TtlCache;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 오픈스터디방 참여자 관리 서비스
@@ -24,44 +22,46 @@ import java.util.stream.Collectors;
 public class ParticipantService {
     
     private final RoomParticipantRepository roomParticipantRepository;
-    private final PersonalTimerRepository personalTimerRepository;
+    private final PersonalTimerEngine timerEngine;
+    
+    // 방별 참여자 목록 캐시 (클라이언트 폴링 대응, 입장/퇴장 시 무효화)
+    // 타이머 상태는 캐시하지 않고 조회할 때마다 타이머 엔진에서 채움
+    private final TtlCache<Long, List<ParticipantResponseDto>> rosterCache =
+            new TtlCache<>(Duration.ofSeconds(3), 1_000);
     
     /**
      * 특정 오픈스터디방의 참여자 목록 조회
+     * 참여자, 회원 정보를 쿼리 한 번으로 조회하고 짧게 캐시, 타이머 상태는 메모리에서 채움
      * 
      * @param roomId 오픈스터디방 ID
      * @return 참여자 목록
      */
     public List<ParticipantResponseDto> getParticipantsByRoomId(Long roomId) {
-        // 해당 방의 모든 RoomParticipant 조회
-        List<RoomParticipant> participants = roomParticipantRepository.findByRoomId(roomId);
-        
-        // RoomParticipant와 PersonalTimer 정보를 결합하여 DTO 생성
-        return participants.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return rosterCache.get(roomId, roomParticipantRepository::findRosterByRoomId).stream()
+                .map(this::withTimerStatus)
+                .toList();
+    }
+    
+    /**
+     * 참여자 목록 캐시 무효화 (커밋 후)
+     * 입장, 퇴장 시 호출
+     * 
+     * @param roomId 오픈스터디방 ID
+     */
+    public void evictRoster(Long roomId) {
+        TransactionCallbacks.afterCommit(() -> rosterCache.invalidate(roomId));
     }
     
     /**
-     * RoomParticipant를 ParticipantResponseDto로 변환
+     * 타이머 엔진의 현재 공부/휴식 상태 설정 (타이머가 없으면 RESTING)
      */
-    private ParticipantResponseDto convertToDto(RoomParticipant participant) {
-        Member member = participant.getMember();
-        
-        // PersonalTimer에서 타이머 상태 조회
-        Optional<PersonalTimer> timerOpt = personalTimerRepository.findByMemberId(member.getId());
-        
-        // 타이머가 없으면 기본값으로 RESTING 설정
-        TimerStatus timerStatus = timerOpt
-                .map(PersonalTimer::getTimerStatus)
-                .orElse(TimerStatus.RESTING);
-        
-        // DTO 생성
+    private ParticipantResponseDto withTimerStatus(ParticipantResponseDto participant) {
+        TimerStatus timerStatus = timerEngine.findStatus(participant.getMemberId());
         return ParticipantResponseDto.builder()
-                .memberId(member.getId())
-                .username(member.getUsername())
-                .profileImage(member.getProfileImage())
-                .timerStatus(timerStatus)
+                .memberId(participant.getMemberId())
+                .username(participant.getUsername())
+                .profileImage(participant.getProfileImage())
+                .timerStatus(timerStatus != null ? timerStatus : TimerStatus.RESTING)
                 .build();
     }
 }
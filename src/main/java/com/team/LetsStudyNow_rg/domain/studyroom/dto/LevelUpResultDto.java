@@ -0,0 +1,17 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.dto;
+
+/**
+ * 공부 시간(경험치) 반영 결과 DTO
+ */
+public record LevelUpResultDto(
+        Integer totalExp,       // 반영 후 총 경험치 (분)
+        Integer previousLevel,  // 반영 전 레벨
+        Integer level           // 반영 후 레벨
+) {
+    /**
+     * 레벨업 여부
+     */
+    public boolean leveledUp() {
+        return level > previousLevel;
+    }
+}
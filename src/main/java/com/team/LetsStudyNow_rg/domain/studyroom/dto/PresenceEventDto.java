@@ -0,0 +1,26 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.dto;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 참여 상태 변경 이벤트 DTO (STOMP /sub/presence/{roomType}/{roomId})
+ * 클라이언트는 참여자 목록을 한 번 조회한 뒤 이 이벤트로 변경분만 반영
+ * 해당 이벤트와 관계없는 필드는 null
+ */
+@Builder
+public record PresenceEventDto(
+        PresenceEventType type,         // 이벤트 종류
+        ChatRoomType roomType,          // 방 종류 (OPEN / GROUP)
+        Long roomId,                    // 방 ID
+        Long memberId,                  // 대상 회원 ID (ROOM_CLOSED는 null)
+        String username,                // 입장한 회원 닉네임 (오픈 스터디 JOIN만)
+        String profileImage,            // 입장한 회원 프로필 이미지 (오픈 스터디 JOIN만)
+        TimerStatus timerStatus,        // 공부/휴식 상태 (JOIN, STATUS_CHANGE)
+        Integer currentParticipants,    // 변경 후 현재 인원 (JOIN, LEAVE)
+        LocalDateTime occurredAt        // 이벤트 발생 시간
+) {
+}
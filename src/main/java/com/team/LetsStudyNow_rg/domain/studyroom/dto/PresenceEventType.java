@@ -0,0 +1,11 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.dto;
+
+/**
+ * 방 참여 상태 변경 이벤트 종류
+ */
+public enum PresenceEventType {
+    JOIN,           // 참여자 입장
+    LEAVE,          // 참여자 퇴장
+    STATUS_CHANGE,  // 공부/휴식 상태 변경
+    ROOM_CLOSED     // 방 종료/삭제 (남은 참여자 모두 퇴장)
+}
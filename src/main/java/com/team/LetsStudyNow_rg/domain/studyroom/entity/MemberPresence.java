@@ -0,0 +1,43 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.entity;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 입장 현황 엔티티
+ * 회원이 현재 머물고 있는 방 (오픈 스터디/그룹 스터디 공통)
+ *
+ * 회원 ID가 PK이므로 한 회원은 동시에 하나의 방에만 있을 수 있음
+ * 입장은 INSERT 한 번으로 성공/실패가 결정됨 (MemberPresenceRepository.insertIfAbsent)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "member_presence", indexes = {
+    // 방 종료/삭제 시 방의 입장 현황 일괄 삭제
+    @Index(name = "idx_member_presence_room", columnList = "room_type, room_id")
+})
+public class MemberPresence {
+
+    // 회원 ID (회원당 한 행)
+    @Id
+    private Long memberId;
+
+    // 방 종류 (OPEN / GROUP)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChatRoomType roomType;
+
+    // 방 ID
+    @Column(nullable = false)
+    private Long roomId;
+
+    // 입장 시간
+    @Column(nullable = false)
+    private LocalDateTime joinedAt;
+}
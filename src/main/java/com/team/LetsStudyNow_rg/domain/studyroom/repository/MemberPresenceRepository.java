@@ -0,0 +1,50 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.MemberPresence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberPresenceRepository extends JpaRepository<MemberPresence, Long>, MemberPresenceRepositoryCustom {
+
+    /**
+     * 퇴장 - 해당 방에 있는 경우만 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM MemberPresence p " +
+           "WHERE p.memberId = :memberId AND p.roomType = :roomType AND p.roomId = :roomId")
+    int deleteByMemberIdAndRoom(@Param("memberId") Long memberId,
+                                @Param("roomType") ChatRoomType roomType,
+                                @Param("roomId") Long roomId);
+
+    /**
+     * 방 종료/삭제 - 방에 있던 회원 모두 퇴장 (DELETE 한 번, idx_member_presence_room)
+     */
+    @Modifying
+    @Query("DELETE FROM MemberPresence p WHERE p.roomType = :roomType AND p.roomId = :roomId")
+    int deleteAllByRoom(@Param("roomType") ChatRoomType roomType, @Param("roomId") Long roomId);
+
+    /**
+     * 기존 참여자 테이블에서 입장 현황 채우기 (오픈 스터디, 삭제되지 않은 방)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_presence (member_id, room_type, room_id, joined_at) " +
+                   "SELECT rp.member_id, 'OPEN', rp.room_id, rp.joined_at FROM room_participant rp " +
+                   "JOIN open_study_room r ON r.id = rp.room_id WHERE r.status <> 'DELETED'",
+           nativeQuery = true)
+    int backfillOpenStudyRooms();
+
+    /**
+     * 기존 참여자 테이블에서 입장 현황 채우기 (그룹 스터디, 활성 방)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_presence (member_id, room_type, room_id, joined_at) " +
+                   "SELECT p.member_id, 'GROUP', p.study_room_id, p.joined_at FROM study_room_participants p " +
+                   "JOIN study_rooms r ON r.id = p.study_room_id WHERE r.status = 'ACTIVE'",
+           nativeQuery = true)
+    int backfillGroupStudyRooms();
+}
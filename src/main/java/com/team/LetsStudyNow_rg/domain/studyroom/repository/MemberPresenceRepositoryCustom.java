@@ -0,0 +1,16 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+
+/**
+ * 회원 입장 현황 기록 (JDBC)
+ */
+public interface MemberPresenceRepositoryCustom {
+
+    /**
+     * 입장 기록 (회원 ID가 PK라서 동시 입장에서도 하나만 성공함)
+     *
+     * @return true: 입장 성공, false: 이미 어떤 방에 있음 (중복 키)
+     */
+    boolean insertIfAbsent(Long memberId, ChatRoomType roomType, Long roomId);
+}
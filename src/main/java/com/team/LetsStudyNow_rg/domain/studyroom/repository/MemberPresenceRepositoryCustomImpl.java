@@ -0,0 +1,30 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class MemberPresenceRepositoryCustomImpl implements MemberPresenceRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO member_presence (member_id, room_type, room_id, joined_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // INSERT IGNORE는 중복 키 외의 오류(잘린 값 등)도 경고로 바꾸므로 일반 INSERT 후 중복 키만 실패로 처리
+    // JDBC 단계에서 잡아서 JPA 예외 변환을 거치지 않으므로 호출한 트랜잭션이 롤백 전용으로 바뀌지 않음
+    @Override
+    public boolean insertIfAbsent(Long memberId, ChatRoomType roomType, Long roomId) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, memberId, roomType.name(), roomId, Timestamp.valueOf(LocalDateTime.now()));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
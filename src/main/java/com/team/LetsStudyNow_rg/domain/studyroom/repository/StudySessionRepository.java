@@ -2,7 +2,11 @@ package com.team.LetsStudyNow_rg.domain.studyroom.repository;
 
 import com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +17,12 @@ public interface StudySessionRepository extends JpaRepository<StudySession, Long
      */
     Optional<StudySession> findByMemberIdAndEndTimeIsNull(Long memberId);
     
+    /**
+     * 여러 회원의 활성 세션을 회원 정보와 함께 일괄 조회 (방 일괄 정리용)
+     * 레벨업 처리를 위해 회원을 한 번에 가져옴
+     */
+    @Query("SELECT s FROM StudySession s JOIN FETCH s.member m " +
+           "WHERE m.id IN :memberIds AND s.endTime IS NULL")
+    List<StudySession> findActiveWithMemberByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
 
 }
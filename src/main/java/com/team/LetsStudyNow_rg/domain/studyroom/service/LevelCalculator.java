@@ -0,0 +1,63 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+/**
+ * 레벨/경험치 계산 (반복문 없는 공식)
+ *
+ * 레벨 L에서 L+1로 가는 데 필요한 시간: (L / 10 + 1) × 600분
+ * - 1~9레벨: 600분, 10~19레벨: 1200분, 20~29레벨: 1800분, ...
+ *
+ * 레벨 L 도달에 필요한 누적 경험치 (n = L - 1, q = n / 10, r = n % 10):
+ *   600 × (n + 10 × q(q-1)/2 + q(r+1))
+ * 경험치 → 레벨은 위 값이 단조 증가하므로 이진 탐색
+ */
+public final class LevelCalculator {
+
+    private static final long MINUTES_PER_TIER_STEP = 600L;
+
+    private LevelCalculator() {
+    }
+
+    /**
+     * 현재 레벨에서 다음 레벨로 올라가기 위해 필요한 시간 (분)
+     */
+    public static long requiredMinutesForLevel(int currentLevel) {
+        return (currentLevel / 10 + 1) * MINUTES_PER_TIER_STEP;
+    }
+
+    /**
+     * 목표 레벨에 도달하기 위해 필요한 총 누적 경험치 (분)
+     * 1레벨은 0
+     */
+    public static long totalExpForLevel(int targetLevel) {
+        if (targetLevel <= 1) {
+            return 0L;
+        }
+        long n = targetLevel - 1L;
+        long q = n / 10;
+        long r = n % 10;
+        // 레벨 1..n 각각의 (레벨 / 10 + 1) 합 = n + Σ floor(l / 10)
+        long tierSum = 10 * q * (q - 1) / 2 + q * (r + 1);
+        return MINUTES_PER_TIER_STEP * (n + tierSum);
+    }
+
+    /**
+     * 누적 경험치로 도달할 수 있는 최대 레벨 (최소 1)
+     */
+    public static int levelForExp(long totalExp) {
+        if (totalExp < MINUTES_PER_TIER_STEP) {
+            return 1;
+        }
+        // 레벨마다 최소 600분이 필요하므로 상한은 totalExp / 600 + 1
+        long low = 1;
+        long high = Math.min(Integer.MAX_VALUE, totalExp / MINUTES_PER_TIER_STEP + 1);
+        while (low < high) {
+            long mid = (low + high + 1) >>> 1;
+            if (totalExpForLevel((int) mid) <= totalExp) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return (int) low;
+    }
+}
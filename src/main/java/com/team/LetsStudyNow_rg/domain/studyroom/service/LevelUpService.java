@@ -2,13 +2,22 @@ package com.team.LetsStudyNow_rg.domain.studyroom.service;
 
 import com.team.LetsStudyNow_rg.domain.member.entity.Member;
 import com.team.LetsStudyNow_rg.domain.member.exception.MemberNotFoundException;
+import com.team.LetsStudyNow_rg.domain.member.repository.MemberExp;
+import com.team.LetsStudyNow_rg.domain.member.repository.MemberExpUpdate;
 import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.domain.member.service.MemberSummaryCache;
 import com.team.LetsStudyNow_rg.domain.studyroom.dto.LevelInfoDto;
+import com.team.LetsStudyNow_rg.domain.studyroom.dto.LevelUpResultDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 레벨업 서비스
  * 공부 시간을 경험치로 변환하고 레벨업을 처리
@@ -20,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LevelUpService {
     
     private final MemberRepository memberRepository;
+    private final MemberSummaryCache memberSummaryCache;
     
     /**
      * 특정 레벨에서 다음 레벨로 올라가기 위해 필요한 시간 계산 (분 단위)
@@ -34,66 +44,118 @@ public class LevelUpService {
      * @return 다음 레벨까지 필요한 시간 (분)
      */
     public int getRequiredMinutesForLevel(int currentLevel) {
-        int tens = currentLevel / 10; // 10의 자리수 (0, 1, 2, 3, ...)
-        return (tens + 1) * 600; // 600, 1200, 1800, 2400, ...
+        return (int) LevelCalculator.requiredMinutesForLevel(currentLevel); // 600, 1200, 1800, 2400, ...
     }
     
     /**
-     * 특정 레벨에 도달하기 위해 필요한 총 누적 경험치 계산
+     * 특정 레벨에 도달하기 위해 필요한 총 누적 경험치 계산 (공식 계산, 반복 없음)
      * 
      * @param targetLevel 목표 레벨
      * @return 필요한 총 누적 경험치 (분)
      */
     private int calculateTotalExpForLevel(int targetLevel) {
-        int totalExp = 0;
-        for (int level = 1; level < targetLevel; level++) {
-            totalExp += getRequiredMinutesForLevel(level);
-        }
-        return totalExp;
+        return Math.toIntExact(LevelCalculator.totalExpForLevel(targetLevel));
     }
     
     /**
      * 공부 시간 추가 및 레벨업 처리
      * 
+     * 경험치/레벨만 읽고 조건부 UPDATE 한 번으로 반영 (회원 엔티티 저장/재조회 없음)
+     * 그 사이 다른 요청이 경험치를 바꿨으면 행을 잠그고 다시 계산
+     * 
      * @param memberId 회원 ID
      * @param studyMinutes 추가할 공부 시간 (분)
-     * @return 레벨업 여부
+     * @return 반영 결과 (새 레벨 포함)
      */
-    public boolean addStudyTimeAndCheckLevelUp(Long memberId, int studyMinutes) {
-        Member member = memberRepository.findById(memberId)
+    public LevelUpResultDto addStudyTime(Long memberId, int studyMinutes) {
+        MemberExp current = memberRepository.findExpById(memberId)
             .orElseThrow(() -> new MemberNotFoundException(memberId));
         
-        // 총 경험치 증가
-        int newTotalExp = member.getTotalExp() + studyMinutes;
-        member.setTotalExp(newTotalExp);
+        LevelUpResultDto result = calculate(current.getTotalExp(), current.getLevel(), studyMinutes);
+        int updated = memberRepository.compareAndSetExp(
+            memberId, current.getTotalExp(), result.totalExp(), result.level());
         
-        log.info("회원 {}의 공부 시간 추가: {}분, 총 경험치: {}분", 
-                 member.getUsername(), studyMinutes, newTotalExp);
-        
-        boolean leveledUp = false;
-        int originalLevel = member.getLevel();
+        if (updated == 0) {
+            // 동시 갱신 충돌 - 최신 값을 잠근 상태로 다시 계산
+            log.info("회원 {}의 경험치 동시 갱신 감지 - 잠금 후 재계산", memberId);
+            result = addStudyTimeWithLock(memberId, studyMinutes);
+        }
         
-        // 레벨업 가능 여부 확인 및 처리 (여러 레벨 한번에 올라갈 수 있음)
-        while (true) {
-            int totalRequiredForNextLevel = calculateTotalExpForLevel(member.getLevel() + 1);
-            
-            if (member.getTotalExp() >= totalRequiredForNextLevel) {
-                member.setLevel(member.getLevel() + 1);
-                leveledUp = true;
-                log.info("회원 {}가 레벨업! {} -> {} 레벨", 
-                         member.getUsername(), member.getLevel() - 1, member.getLevel());
-            } else {
-                break;
+        logResult(memberId, studyMinutes, result);
+        if (result.leveledUp()) {
+            memberSummaryCache.evict(memberId);
+        }
+        return result;
+    }
+    
+    /**
+     * 여러 회원에 공부 시간 일괄 반영 (방 일괄 정리용)
+     * 이미 조회된 경험치를 기준으로 조건부 UPDATE를 JDBC 배치 한 번으로 실행하고,
+     * 그 사이 경험치가 바뀐 회원만 개별 처리
+     * 
+     * @param members 조회된 회원 (현재 경험치/레벨 기준값)
+     * @param studyMinutesByMember 회원 ID → 추가할 공부 시간 (분)
+     * @return 레벨업한 회원 수
+     */
+    public int addStudyTimeInBatch(Collection<Member> members, Map<Long, Integer> studyMinutesByMember) {
+        List<MemberExpUpdate> updates = new ArrayList<>();
+        List<LevelUpResultDto> results = new ArrayList<>();
+        for (Member member : members) {
+            int studyMinutes = studyMinutesByMember.getOrDefault(member.getId(), 0);
+            if (studyMinutes <= 0) {
+                continue;
             }
+            LevelUpResultDto result = calculate(member.getTotalExp(), member.getLevel(), studyMinutes);
+            updates.add(new MemberExpUpdate(member.getId(), member.getTotalExp(), result.totalExp(), result.level()));
+            results.add(result);
         }
         
-        if (leveledUp) {
-            log.info("회원 {}의 최종 레벨: {} ({}레벨 상승)", 
-                     member.getUsername(), member.getLevel(), member.getLevel() - originalLevel);
+        int[] updatedCounts = memberRepository.compareAndSetExpInBatch(updates);
+        
+        int leveledUpCount = 0;
+        for (int i = 0; i < updates.size(); i++) {
+            MemberExpUpdate update = updates.get(i);
+            LevelUpResultDto result = results.get(i);
+            if (updatedCounts[i] == 0) {
+                // 동시 갱신 충돌 - 이 회원만 잠근 상태로 다시 계산
+                result = addStudyTimeWithLock(update.memberId(), studyMinutesByMember.get(update.memberId()));
+            }
+            if (result.leveledUp()) {
+                memberSummaryCache.evict(update.memberId());
+                leveledUpCount++;
+            }
         }
+        return leveledUpCount;
+    }
+    
+    /**
+     * 행 잠금 후 공부 시간 반영 (조건부 갱신이 충돌했을 때)
+     */
+    private LevelUpResultDto addStudyTimeWithLock(Long memberId, int studyMinutes) {
+        MemberExp current = memberRepository.findExpByIdForUpdate(memberId)
+            .orElseThrow(() -> new MemberNotFoundException(memberId));
         
-        memberRepository.save(member);
-        return leveledUp;
+        // 행을 잠갔으므로 조건부 갱신은 반드시 성공
+        LevelUpResultDto result = calculate(current.getTotalExp(), current.getLevel(), studyMinutes);
+        memberRepository.compareAndSetExp(memberId, current.getTotalExp(), result.totalExp(), result.level());
+        return result;
+    }
+    
+    /**
+     * 경험치 추가 후 레벨 계산 (여러 레벨 한번에 올라갈 수 있음, 레벨은 내려가지 않음)
+     */
+    private static LevelUpResultDto calculate(int totalExp, int level, int studyMinutes) {
+        int newTotalExp = totalExp + studyMinutes;
+        int newLevel = Math.max(level, LevelCalculator.levelForExp(newTotalExp));
+        return new LevelUpResultDto(newTotalExp, level, newLevel);
+    }
+    
+    private void logResult(Long memberId, int studyMinutes, LevelUpResultDto result) {
+        log.info("회원 {}의 공부 시간 추가: {}분, 총 경험치: {}분", memberId, studyMinutes, result.totalExp());
+        if (result.leveledUp()) {
+            log.info("회원 {}가 레벨업! {} -> {} 레벨 ({}레벨 상승)", 
+                     memberId, result.previousLevel(), result.level(), result.level() - result.previousLevel());
+        }
     }
     
     /**
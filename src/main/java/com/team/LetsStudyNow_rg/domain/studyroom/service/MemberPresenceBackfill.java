@@ -0,0 +1,24 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 입장 현황 시작 복구
+ *
+ * 요청을 받기 전(웹 서버 시작 전)에 기존 참여자 테이블로 입장 현황을 채움
+ * 복구 전에 요청을 받으면 입장 현황이 없는 회원이 다른 방에 한 번 더 입장할 수 있으므로,
+ * 실패하면 애플리케이션 시작도 실패시킴
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberPresenceBackfill {
+
+    private final MemberPresenceService memberPresenceService;
+
+    @PostConstruct
+    public void backfillOnStartup() {
+        memberPresenceService.backfill();
+    }
+}
@@ -0,0 +1,70 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.MemberPresence;
+import com.team.LetsStudyNow_rg.domain.studyroom.repository.MemberPresenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 회원 입장 현황 서비스
+ * "한 회원은 동시에 하나의 방에만 참여" 규칙을 member_presence의 PK로 보장
+ *
+ * - 방 생성/입장: INSERT 한 번으로 성공/실패 결정 (사전 확인 조회 없음, 중복 키 오류는 실패로 처리)
+ * - 방 퇴장: 해당 방의 입장 기록만 삭제
+ * - 방 종료/삭제: 방의 입장 기록 일괄 삭제
+ * 호출한 트랜잭션이 롤백되면 입장 기록도 함께 롤백됨
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class MemberPresenceService {
+
+    private final MemberPresenceRepository memberPresenceRepository;
+
+    /**
+     * 방 입장 기록
+     *
+     * @return true: 입장 성공, false: 이미 어떤 방에 있음 (같은 방 포함)
+     */
+    public boolean enter(Long memberId, ChatRoomType roomType, Long roomId) {
+        return memberPresenceRepository.insertIfAbsent(memberId, roomType, roomId);
+    }
+
+    /**
+     * 회원이 현재 있는 방 조회 (입장 실패 시 안내 메시지 구분용)
+     */
+    @Transactional(readOnly = true)
+    public Optional<MemberPresence> find(Long memberId) {
+        return memberPresenceRepository.findById(memberId);
+    }
+
+    /**
+     * 방 퇴장 기록
+     */
+    public void leave(Long memberId, ChatRoomType roomType, Long roomId) {
+        memberPresenceRepository.deleteByMemberIdAndRoom(memberId, roomType, roomId);
+    }
+
+    /**
+     * 방 종료/삭제 시 방에 있던 회원 모두 퇴장 처리
+     */
+    public int closeRoom(ChatRoomType roomType, Long roomId) {
+        return memberPresenceRepository.deleteAllByRoom(roomType, roomId);
+    }
+
+    /**
+     * 기존 참여자 테이블 기준으로 입장 현황 채우기 (MemberPresenceBackfill에서 시작 시 호출)
+     * 이미 있는 기록은 그대로 두므로 매번 실행해도 안전함
+     */
+    public void backfill() {
+        int open = memberPresenceRepository.backfillOpenStudyRooms();
+        int group = memberPresenceRepository.backfillGroupStudyRooms();
+        log.info("회원 입장 현황 복구 완료 - 오픈 스터디: {}명, 그룹 스터디: {}명", open, group);
+    }
+}
@@ -0,0 +1,121 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 방 마감 시간 스케줄러 (지연 큐)
+ *
+ * 방마다 정해진 마감 시간(혼자 타이머 5분, 삭제 예약 5분, 그룹 스터디 종료 시간)에 정확히 한 번 실행
+ * 테이블을 주기적으로 스캔하지 않고, 마감이 등록된 방만 처리
+ *
+ * - 마감 등록/취소는 트랜잭션 커밋 후 반영
+ * - 같은 방의 같은 종류 마감을 다시 등록하면 이전 마감은 무시됨
+ * - 실제 처리는 종류별 핸들러에 위임 (각 도메인 스케줄러가 시작 시 등록)
+ * - 메모리에만 있으므로 애플리케이션 시작 시 DB 기준으로 다시 등록해야 함
+ */
+@Component
+@Slf4j
+public class RoomDeadlineScheduler {
+
+    /**
+     * 마감 종류
+     */
+    public enum DeadlineType {
+        OPEN_ALONE,     // 오픈 스터디 - 생성자 혼자 5분 경과
+        OPEN_DELETE,    // 오픈 스터디 - 삭제 예약 시간 도래
+        GROUP_END       // 그룹 스터디 - 공부 시간 종료
+    }
+
+    private record DeadlineKey(DeadlineType type, Long roomId) {
+    }
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<DeadlineType, Consumer<Long>> handlers = new ConcurrentHashMap<>();
+
+    // 방별 현재 유효한 마감 번호 (재등록/취소 시 이전 작업은 실행 시점에 무시)
+    private final ConcurrentMap<DeadlineKey, Long> activeDeadlines = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public RoomDeadlineScheduler() {
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "room-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 마감 처리 핸들러 등록
+     *
+     * @param type 마감 종류
+     * @param handler 방 ID를 받아 마감 처리 (처리 전에 마감 조건을 DB 기준으로 다시 확인해야 함)
+     */
+    public void registerHandler(DeadlineType type, Consumer<Long> handler) {
+        handlers.put(type, handler);
+    }
+
+    /**
+     * 마감 등록 (커밋 후)
+     * 이미 지난 시간이면 즉시 실행
+     */
+    public void schedule(DeadlineType type, Long roomId, LocalDateTime deadline) {
+        TransactionCallbacks.afterCommit(() -> scheduleNow(type, roomId, deadline));
+    }
+
+    /**
+     * 마감 취소 (커밋 후)
+     */
+    public void cancel(DeadlineType type, Long roomId) {
+        TransactionCallbacks.afterCommit(() -> activeDeadlines.remove(new DeadlineKey(type, roomId)));
+    }
+
+    private void scheduleNow(DeadlineType type, Long roomId, LocalDateTime deadline) {
+        DeadlineKey key = new DeadlineKey(type, roomId);
+        long deadlineSequence = sequence.incrementAndGet();
+        activeDeadlines.put(key, deadlineSequence);
+
+        // 마감 시간이 "지난" 뒤에 실행되도록 1ms 여유
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), deadline).toMillis() + 1);
+        executor.schedule(() -> fire(key, deadlineSequence), delayMillis, TimeUnit.MILLISECONDS);
+
+        log.debug("방 마감 등록 - 종류: {}, 방ID: {}, 마감: {}", type, roomId, deadline);
+    }
+
+    private void fire(DeadlineKey key, long deadlineSequence) {
+        // 취소되었거나 다시 등록된 마감이면 무시
+        if (!activeDeadlines.remove(key, deadlineSequence)) {
+            return;
+        }
+
+        Consumer<Long> handler = handlers.get(key.type());
+        if (handler == null) {
+            log.warn("방 마감 핸들러 없음 - 종류: {}, 방ID: {}", key.type(), key.roomId());
+            return;
+        }
+
+        try {
+            handler.accept(key.roomId());
+        } catch (Exception e) {
+            // 실패한 마감은 각 도메인 스케줄러의 주기적 점검에서 다시 처리됨
+            log.error("방 마감 처리 실패 - 종류: {}, 방ID: {}, 오류: {}", key.type(), key.roomId(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
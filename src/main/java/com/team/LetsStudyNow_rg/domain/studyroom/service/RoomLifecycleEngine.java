@@ -0,0 +1,103 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.timer.service.PersonalTimerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 방 입장/퇴장 공통 처리 엔진 (오픈 스터디/그룹 스터디 공통)
+ *
+ * 입장/퇴장을 트랜잭션 하나에서 정해진 순서로 처리하고, 이벤트는 커밋 후에 전송
+ * 방 종류마다 다른 부분은 RoomLifecyclePolicy로 받음
+ *
+ * 입장: 입장 현황 기록 → 인원 반영 → 참여자 행 추가 → 공부 세션 시작 → 타이머 시작 → 입장 이벤트
+ * 퇴장: 참여자 행 삭제 → 입장 현황 삭제 → 세션/타이머 종료 (RoomTeardownService 배치 경로) → 인원 반영 → 퇴장 이벤트
+ * 중간에 실패하면 전체가 롤백됨 (타이머, 레지스트리 등 메모리 상태도 롤백 콜백으로 복구)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RoomLifecycleEngine {
+
+    private final MemberPresenceService memberPresenceService;
+    private final StudySessionService studySessionService;
+    private final PersonalTimerService personalTimerService;
+    private final RoomTeardownService roomTeardownService;
+    private final RoomPresencePublisher presencePublisher;
+
+    /**
+     * 방 입장
+     *
+     * @param username 입장 이벤트에 담을 닉네임 (없으면 null)
+     * @param profileImage 입장 이벤트에 담을 프로필 이미지 (없으면 null)
+     * @return 입장 후 현재 인원
+     */
+    public int join(RoomLifecyclePolicy policy, Long roomId, Long memberId, String username, String profileImage) {
+        enter(policy, roomId, memberId);
+        int currentParticipants = policy.admit(roomId);
+        policy.addParticipant(roomId, memberId);
+        startStudying(policy, roomId, memberId);
+
+        presencePublisher.publishJoin(policy.roomType(), roomId, memberId, username, profileImage, currentParticipants);
+        return currentParticipants;
+    }
+
+    /**
+     * 방 생성자 자동 입장 (방 저장 직후 호출)
+     * 인원은 방 생성 시 1명으로 저장되므로 반영하지 않고, 아직 구독자가 없으므로 이벤트도 보내지 않음
+     */
+    public void joinAsCreator(RoomLifecyclePolicy policy, Long roomId, Long memberId) {
+        if (!memberPresenceService.enter(memberId, policy.roomType(), roomId)) {
+            throw policy.alreadyInRoomOnCreate();
+        }
+        policy.addParticipant(roomId, memberId);
+        startStudying(policy, roomId, memberId);
+    }
+
+    /**
+     * 방 퇴장 (공부 세션 종료 및 레벨업 처리 포함)
+     *
+     * @return 퇴장 후 남은 인원
+     */
+    public int leave(RoomLifecyclePolicy policy, Long roomId, Long memberId) {
+        if (!policy.removeParticipant(roomId, memberId)) {
+            throw policy.notInRoom();
+        }
+        memberPresenceService.leave(memberId, policy.roomType(), roomId);
+
+        // 방 일괄 정리와 같은 경로 (타이머 → 세션 종료 → 레벨업 → 공부 기록 → 타이머 제거)
+        roomTeardownService.endSessionsAndTimers(List.of(memberId));
+
+        int remainingCount = policy.release(roomId);
+        presencePublisher.publishLeave(policy.roomType(), roomId, memberId, remainingCount);
+        return remainingCount;
+    }
+
+    // 입장 현황 기록 (회원당 하나의 방) - 실패한 경우에만 어느 방에 있는지 조회해서 예외 구분
+    private void enter(RoomLifecyclePolicy policy, Long roomId, Long memberId) {
+        if (memberPresenceService.enter(memberId, policy.roomType(), roomId)) {
+            return;
+        }
+        boolean sameRoom = memberPresenceService.find(memberId)
+            .filter(presence -> presence.getRoomType() == policy.roomType())
+            .filter(presence -> presence.getRoomId().equals(roomId))
+            .isPresent();
+        throw policy.alreadyInRoom(sameRoom);
+    }
+
+    // 공부 세션 + 타이머 시작
+    private void startStudying(RoomLifecyclePolicy policy, Long roomId, Long memberId) {
+        studySessionService.startStudySession(memberId, policy.studyType(), roomId);
+        try {
+            personalTimerService.startTimer(memberId, roomId, policy.roomType());
+        } catch (IllegalStateException e) {
+            // 입장 현황상 다른 방에 없으므로 이전에 정리되지 않은 타이머 - 입장은 계속 진행
+            log.warn("타이머 시작 실패 (이미 활성 타이머 존재) - 회원ID: {}, 방ID: {}", memberId, roomId);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+
+/**
+ * 방 종류별 입장/퇴장 규칙 (RoomLifecycleEngine에서 사용)
+ * 공부 세션, 타이머, 입장 현황, 이벤트 전송은 엔진이 공통으로 처리하고
+ * 방 종류마다 다른 인원 반영, 참여자 행, 예외만 구현
+ *
+ * 모든 메서드는 엔진의 트랜잭션 안에서 호출됨
+ */
+public interface RoomLifecyclePolicy {
+
+    /**
+     * 방 종류 (입장 현황, 이벤트 경로에 사용)
+     */
+    ChatRoomType roomType();
+
+    /**
+     * 공부 세션의 studyType ("OPEN_STUDY" 또는 "GROUP_STUDY")
+     */
+    default String studyType() {
+        return roomType() == ChatRoomType.GROUP ? "GROUP_STUDY" : "OPEN_STUDY";
+    }
+
+    /**
+     * 이미 방에 있는 회원이 입장/생성을 시도할 때 던질 예외
+     *
+     * @param sameRoom true: 입장하려는 방에 이미 있음, false: 다른 방에 있음
+     */
+    RuntimeException alreadyInRoom(boolean sameRoom);
+
+    /**
+     * 이미 방에 있는 회원이 방 생성을 시도할 때 던질 예외
+     */
+    RuntimeException alreadyInRoomOnCreate();
+
+    /**
+     * 방에 참여하지 않은 회원이 퇴장을 시도할 때 던질 예외
+     */
+    RuntimeException notInRoom();
+
+    /**
+     * 입장 인원 반영 (상태/정원 확인 포함, 입장 불가면 예외)
+     *
+     * @return 입장 후 현재 인원
+     */
+    int admit(Long roomId);
+
+    /**
+     * 참여자 행 추가
+     */
+    void addParticipant(Long roomId, Long memberId);
+
+    /**
+     * 참여자 행 삭제
+     *
+     * @return true: 삭제됨, false: 참여자가 아님 (동시에 퇴장한 경우 포함)
+     */
+    boolean removeParticipant(Long roomId, Long memberId);
+
+    /**
+     * 퇴장 인원 반영
+     *
+     * @return 퇴장 후 남은 인원
+     */
+    int release(Long roomId);
+}
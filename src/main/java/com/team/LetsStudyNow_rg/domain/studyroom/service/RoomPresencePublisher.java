@@ -0,0 +1,132 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.dto.PresenceEventDto;
+import com.team.LetsStudyNow_rg.domain.studyroom.dto.PresenceEventType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession;
+import com.team.LetsStudyNow_rg.domain.studyroom.repository.StudySessionRepository;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 방 참여 상태 변경(입장, 퇴장, 공부/휴식 전환, 방 종료)을 STOMP로 전송
+ * 구독 경로: /sub/presence/{roomType}/{roomId} (예: /sub/presence/open/1)
+ *
+ * 참여자 목록 API 폴링 대신 변경분만 푸시
+ * 모든 이벤트는 트랜잭션 커밋 후에 전송 (롤백된 입장/퇴장은 전송되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoomPresencePublisher {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final StudySessionRepository studySessionRepository;
+
+    /**
+     * 입장 이벤트
+     */
+    public void publishJoin(ChatRoomType roomType, Long roomId, Long memberId,
+                            String username, String profileImage, int currentParticipants) {
+        publish(PresenceEventDto.builder()
+                .type(PresenceEventType.JOIN)
+                .roomType(roomType)
+                .roomId(roomId)
+                .memberId(memberId)
+                .username(username)
+                .profileImage(profileImage)
+                .timerStatus(TimerStatus.STUDYING)
+                .currentParticipants(currentParticipants)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 퇴장 이벤트
+     */
+    public void publishLeave(ChatRoomType roomType, Long roomId, Long memberId, int currentParticipants) {
+        publish(PresenceEventDto.builder()
+                .type(PresenceEventType.LEAVE)
+                .roomType(roomType)
+                .roomId(roomId)
+                .memberId(memberId)
+                .currentParticipants(currentParticipants)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 방 종료/삭제 이벤트
+     */
+    public void publishRoomClosed(ChatRoomType roomType, Long roomId) {
+        publish(PresenceEventDto.builder()
+                .type(PresenceEventType.ROOM_CLOSED)
+                .roomType(roomType)
+                .roomId(roomId)
+                .currentParticipants(0)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 공부/휴식 상태 변경 이벤트
+     * 타이머에 방 종류가 없으면 진행 중인 공부 세션의 studyType으로 판단
+     * (세션이 없으면 방 밖에서 타이머를 쓰는 경우이므로 전송하지 않음)
+     */
+    public void publishStatusChange(Long memberId, ChatRoomType roomType, Long roomId, TimerStatus timerStatus) {
+        if (roomType == null) {
+            publishStatusChange(memberId, roomId, timerStatus);
+            return;
+        }
+        publish(PresenceEventDto.builder()
+                .type(PresenceEventType.STATUS_CHANGE)
+                .roomType(roomType)
+                .roomId(roomId)
+                .memberId(memberId)
+                .timerStatus(timerStatus)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 공부/휴식 상태 변경 이벤트 (방 종류를 공부 세션에서 조회)
+     */
+    public void publishStatusChange(Long memberId, Long roomId, TimerStatus timerStatus) {
+        studySessionRepository.findByMemberIdAndEndTimeIsNull(memberId)
+                .map(StudySession::getStudyType)
+                .map(RoomPresencePublisher::toRoomType)
+                .ifPresent(roomType -> publish(PresenceEventDto.builder()
+                        .type(PresenceEventType.STATUS_CHANGE)
+                        .roomType(roomType)
+                        .roomId(roomId)
+                        .memberId(memberId)
+                        .timerStatus(timerStatus)
+                        .occurredAt(LocalDateTime.now())
+                        .build()));
+    }
+
+    /**
+     * 공부 세션의 studyType("OPEN_STUDY", "GROUP_STUDY")을 방 종류로 변환
+     */
+    public static ChatRoomType toRoomType(String studyType) {
+        return "GROUP_STUDY".equals(studyType) ? ChatRoomType.GROUP : ChatRoomType.OPEN;
+    }
+
+    private void publish(PresenceEventDto event) {
+        String destination = "/sub/presence/" + event.roomType().name().toLowerCase() + "/" + event.roomId();
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                messagingTemplate.convertAndSend(destination, event);
+            } catch (Exception e) {
+                // 이벤트 전송 실패가 입장/퇴장 처리에 영향을 주지 않도록 로그만 남김
+                log.warn("참여 상태 이벤트 전송 실패 - 경로: {}, 종류: {}", destination, event.type(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.member.entity.Member;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession;
+import com.team.LetsStudyNow_rg.domain.studyroom.repository.StudySessionRepository;
+import com.team.LetsStudyNow_rg.domain.timer.engine.PersonalTimerEngine;
+import com.team.LetsStudyNow_rg.domain.timer.engine.TimerSnapshot;
+import com.team.LetsStudyNow_rg.domain.timer.repository.StudyHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 방 일괄 정리 서비스
+ * 방 삭제/종료 시 참여자 전원의 공부 세션, 타이머, 공부 기록, 레벨을 한 번에 처리
+ *
+ * 참여자 수와 관계없이 쿼리 수는 일정하고,
+ * 세션/회원 변경은 JDBC 배치로 묶여서 반영됨 (hibernate.jdbc.batch_size), 공부 기록은 upsert 배치
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class RoomTeardownService {
+
+    private final StudySessionRepository studySessionRepository;
+    private final PersonalTimerEngine timerEngine;
+    private final StudyHistoryRepository studyHistoryRepository;
+    private final LevelUpService levelUpService;
+
+    /**
+     * 회원들의 공부 세션과 타이머 일괄 종료
+     *
+     * 1. 타이머 엔진에서 종료 시점까지의 공부 시간 계산 (DB 조회 없음)
+     * 2. 활성 세션 일괄 조회 (회원 포함) → 세션 종료, 경험치/레벨은 조건부 UPDATE 배치
+     * 3. 오늘 공부 기록 일괄 조회 → 공부 시간 누적 (없으면 생성)
+     * 4. 타이머 일괄 제거 (커밋 후, DB 행은 엔진이 모아서 삭제)
+     *
+     * @param memberIds 정리할 회원 ID 목록
+     * @return 레벨업한 회원 수
+     */
+    public int endSessionsAndTimers(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> studySecondsByMember = timerEngine.findAll(memberIds).values().stream()
+            .collect(Collectors.toMap(TimerSnapshot::memberId, TimerSnapshot::finalStudySeconds));
+
+        List<StudySession> sessions = studySessionRepository.findActiveWithMemberByMemberIdIn(memberIds);
+        Map<Long, Member> studiedMembers = new LinkedHashMap<>();
+        Map<Long, Integer> studyMinutesByMember = new HashMap<>();
+        for (StudySession session : sessions) {
+            Member member = session.getMember();
+            int studyMinutes = (int) (studySecondsByMember.getOrDefault(member.getId(), 0L) / 60);
+
+            session.addStudyMinutes(studyMinutes);
+            session.endSession();
+
+            if (studyMinutes > 0) {
+                studiedMembers.put(member.getId(), member);
+                studyMinutesByMember.merge(member.getId(), studyMinutes, Integer::sum);
+            }
+        }
+
+        int leveledUpCount = levelUpService.addStudyTimeInBatch(studiedMembers.values(), studyMinutesByMember);
+
+        saveStudyHistories(studySecondsByMember);
+
+        timerEngine.removeAll(memberIds);
+
+        log.info("방 일괄 정리 - 대상: {}명, 종료된 세션: {}개, 종료된 타이머: {}개, 레벨업: {}명",
+                 memberIds.size(), sessions.size(), studySecondsByMember.size(), leveledUpCount);
+        return leveledUpCount;
+    }
+
+    /**
+     * 오늘 날짜의 공부 기록에 공부 시간 누적 (upsert 배치 한 번)
+     */
+    private void saveStudyHistories(Map<Long, Long> studySecondsByMember) {
+        Map<Long, Long> studiedMembers = studySecondsByMember.entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        studyHistoryRepository.addStudySecondsInBatch(studiedMembers, LocalDate.now());
+    }
+}
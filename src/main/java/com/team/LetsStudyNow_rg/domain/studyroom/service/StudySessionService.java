@@ -1,14 +1,14 @@
 package com.team.LetsStudyNow_rg.domain.studyroom.service;
 
 import com.team.LetsStudyNow_rg.domain.member.entity.Member;
-import com.team.LetsStudyNow_rg.domain.member.exception.MemberNotFoundException;
 import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.domain.studyroom.dto.LevelUpResultDto;
 import com.team.LetsStudyNow_rg.domain.studyroom.dto.SessionEndResultDto;
 import com.team.LetsStudyNow_rg.domain.studyroom.entity.StudySession;
 import com.team.LetsStudyNow_rg.domain.studyroom.exception.SessionNotFoundException;
 import com.team.LetsStudyNow_rg.domain.studyroom.repository.StudySessionRepository;
-import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
-import com.team.LetsStudyNow_rg.domain.timer.repository.PersonalTimerRepository;
+import com.team.LetsStudyNow_rg.domain.timer.engine.PersonalTimerEngine;
+import com.team.LetsStudyNow_rg.domain.timer.engine.TimerSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,10 +33,12 @@ public class StudySessionService {
     private final StudySessionRepository studySessionRepository;
     private final MemberRepository memberRepository;
     private final LevelUpService levelUpService;
-    private final PersonalTimerRepository personalTimerRepository;
+    private final PersonalTimerEngine timerEngine;
     
     /**
      * 공부 세션 시작 (공부 모드로 시작)
+     * 이미 활성 세션이 있으면 종료한 뒤 새로 시작 (공부 시간 반영 및 레벨업 처리)
+     * 세션 API로 시작한 세션은 입장 현황에 기록되지 않으므로 방 생성/입장 경로에서도 확인이 필요함
      * 
      * @param memberId 회원 ID
      * @param studyType 스터디 타입 ("OPEN_STUDY" 또는 "GROUP_STUDY")
@@ -44,9 +46,6 @@ public class StudySessionService {
      * @return 생성된 세션
      */
     public StudySession startStudySession(Long memberId, String studyType, Long roomId) {
-        Member member = memberRepository.findById(memberId)
-            .orElseThrow(() -> new MemberNotFoundException(memberId));
-        
         // 이미 활성화된 세션이 있는지 확인
         studySessionRepository.findByMemberIdAndEndTimeIsNull(memberId)
             .ifPresent(session -> {
@@ -54,6 +53,9 @@ public class StudySessionService {
                 endStudySession(session.getId());
             });
         
+        // 세션에는 회원 ID만 필요하므로 조회 없이 프록시 참조 사용
+        Member member = memberRepository.getReferenceById(memberId);
+        
         StudySession session = StudySession.builder()
             .member(member)
             .studyType(studyType)
@@ -66,7 +68,7 @@ public class StudySessionService {
         
         StudySession savedSession = studySessionRepository.save(session);
         log.info("공부 세션 시작 - 회원: {}, 타입: {}, 방ID: {}, 세션ID: {}", 
-                 member.getUsername(), studyType, roomId, savedSession.getId());
+                 memberId, studyType, roomId, savedSession.getId());
         
         return savedSession;
     }
@@ -88,15 +90,15 @@ public class StudySessionService {
         
         // Timer에서 실제 공부 시간을 가져옴 (Timer가 공부/휴식을 구분하여 측정)
         int totalStudyMinutes = 0;
-        PersonalTimer timer = personalTimerRepository.findByMemberId(session.getMember().getId())
+        TimerSnapshot timer = timerEngine.find(session.getMember().getId())
             .orElse(null);
         
         if (timer != null) {
-            // Timer 종료 처리하여 마지막 세션 시간 누적
-            timer.endTimer();
+            // 마지막 세션 시간까지 포함한 공부 시간 (타이머 종료는 PersonalTimerService.endTimer에서 처리)
+            long studySeconds = timer.finalStudySeconds();
             // 초 단위를 분 단위로 변환
-            totalStudyMinutes = (int) (timer.getTotalStudySeconds() / 60);
-            log.info("Timer에서 가져온 공부 시간: {}분 ({}초)", totalStudyMinutes, timer.getTotalStudySeconds());
+            totalStudyMinutes = (int) (studySeconds / 60);
+            log.info("Timer에서 가져온 공부 시간: {}분 ({}초)", totalStudyMinutes, studySeconds);
         } else {
             log.warn("Timer를 찾을 수 없습니다. 공부 시간 = 0분");
         }
@@ -112,15 +114,14 @@ public class StudySessionService {
         boolean leveledUp = false;
         Integer newLevel = null;
         if (totalStudyMinutes > 0) {
-            leveledUp = levelUpService.addStudyTimeAndCheckLevelUp(
+            LevelUpResultDto levelUp = levelUpService.addStudyTime(
                 session.getMember().getId(), 
                 totalStudyMinutes
             );
             
+            leveledUp = levelUp.leveledUp();
             if (leveledUp) {
-                Member member = memberRepository.findById(session.getMember().getId())
-                    .orElseThrow(() -> new MemberNotFoundException(session.getMember().getId()));
-                newLevel = member.getLevel();
+                newLevel = levelUp.level();
             }
         }
         
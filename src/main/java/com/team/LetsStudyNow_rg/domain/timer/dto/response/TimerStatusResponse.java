@@ -1,6 +1,6 @@
 package com.team.LetsStudyNow_rg.domain.timer.dto.response;
 
-import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
+import com.team.LetsStudyNow_rg.domain.timer.engine.TimerSnapshot;
 import com.team.LetsStudyNow_rg.domain.timer.entity.TimerMode;
 import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
 
@@ -14,16 +14,16 @@ public record TimerStatusResponse(
         Long totalStudySeconds,
         String totalStudyTime
 ) {
-    public TimerStatusResponse(PersonalTimer timer) {
+    public TimerStatusResponse(TimerSnapshot timer) {
         this(
-                timer.getId(),
-                timer.getMemberId(),
-                timer.getRoomId(),
-                timer.getTimerMode(),
-                timer.getTimerStatus(),
-                timer.getCurrentSessionSeconds(),
-                timer.getTotalStudySeconds(),
-                formatSeconds(timer.getTotalStudySeconds())
+                timer.timerId(),
+                timer.memberId(),
+                timer.roomId(),
+                timer.timerMode(),
+                timer.timerStatus(),
+                timer.currentSessionSeconds(),
+                timer.totalStudySeconds(),
+                formatSeconds(timer.totalStudySeconds())
         );
     }
 
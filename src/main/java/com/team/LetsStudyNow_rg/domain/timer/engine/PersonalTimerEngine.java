@@ -0,0 +1,229 @@
+package com.team.LetsStudyNow_rg.domain.timer.engine;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
+import com.team.LetsStudyNow_rg.global.transaction.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 개인 타이머 메모리 엔진 (회원 ID 기준)
+ *
+ * 토글, 뽀모도로 전환, 상태 조회는 메모리에서만 처리하고
+ * DB(personal_timer)에는 변경분만 주기적으로 모아서 반영 (write-behind)
+ *
+ * - 시작 시 DB에 저장된 타이머로 복구
+ * - 종료 시(@PreDestroy) 남은 변경분 반영
+ * - 비정상 종료 시 마지막 반영 이후의 변경(최대 반영 주기)만 유실됨
+ * - 방 입장/퇴장과 함께 호출되는 시작/종료는 트랜잭션 결과에 맞춰 반영 (롤백 시 시작 취소, 커밋 후 종료)
+ *
+ * 제한: 메모리 상태가 기준이고 노드마다 따로 가짐 (단일 노드 전제)
+ * 노드마다 시작 시 모든 타이머를 복구하고 자기 변경분으로 DB를 덮어쓰므로,
+ * 여러 노드를 띄우면 노드 간 타이머 상태가 서로 달라지고 마지막에 반영한 노드의 값이 남음
+ * (STOMP 릴레이 모드도 단일 노드를 확인해야 시작됨 - WebSocketConfig.validateBrokerMode)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PersonalTimerEngine {
+
+    private final PersonalTimerSnapshotWriter snapshotWriter;
+
+    private final ConcurrentMap<Long, TimerState> timers = new ConcurrentHashMap<>();
+
+    // 다음 반영 시 저장/삭제할 회원 ID
+    private final Set<Long> dirtyMemberIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removedMemberIds = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void restore() {
+        for (PersonalTimer timer : snapshotWriter.loadAll()) {
+            timers.put(timer.getMemberId(), TimerState.restore(timer));
+        }
+        log.info("개인 타이머 복구 완료 - {}개", timers.size());
+    }
+
+    /**
+     * 타이머 시작
+     * 호출한 트랜잭션이 롤백되면 시작도 취소됨
+     *
+     * @throws IllegalStateException 이미 활성 타이머가 있는 경우
+     */
+    public TimerSnapshot start(Long memberId, Long roomId, ChatRoomType roomType) {
+        TimerState state = TimerState.start(memberId, roomId, roomType);
+        if (timers.putIfAbsent(memberId, state) != null) {
+            throw new IllegalStateException("이미 활성화된 타이머가 있습니다. 한 번에 하나의 방에서만 타이머를 사용할 수 있습니다.");
+        }
+        dirtyMemberIds.add(memberId);
+        TransactionCallbacks.afterRollback(() -> discard(memberId, state));
+        return state.snapshot();
+    }
+
+    /**
+     * 타이머 종료 (커밋 후 메모리에서 제거, DB 행은 다음 반영 시 삭제)
+     */
+    public void remove(Long memberId) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (timers.remove(memberId) != null) {
+                removedMemberIds.add(memberId);
+            }
+        });
+    }
+
+    /**
+     * 여러 회원의 타이머 종료 (방 일괄 정리용)
+     */
+    public void removeAll(Collection<Long> memberIds) {
+        List<Long> targets = List.copyOf(memberIds);
+        TransactionCallbacks.afterCommit(() -> targets.forEach(memberId -> {
+            if (timers.remove(memberId) != null) {
+                removedMemberIds.add(memberId);
+            }
+        }));
+    }
+
+    public boolean isRunning(Long memberId) {
+        return timers.containsKey(memberId);
+    }
+
+    public Optional<TimerSnapshot> find(Long memberId) {
+        TimerState state = timers.get(memberId);
+        return state == null ? Optional.empty() : Optional.of(state.snapshot());
+    }
+
+    /**
+     * @throws IllegalArgumentException 활성 타이머가 없는 경우
+     */
+    public TimerSnapshot get(Long memberId) {
+        return getState(memberId).snapshot();
+    }
+
+    /**
+     * 여러 회원의 타이머 조회 (타이머가 없는 회원은 결과에서 제외)
+     */
+    public Map<Long, TimerSnapshot> findAll(Collection<Long> memberIds) {
+        Map<Long, TimerSnapshot> snapshots = new HashMap<>();
+        for (Long memberId : memberIds) {
+            TimerState state = timers.get(memberId);
+            if (state != null) {
+                snapshots.put(memberId, state.snapshot());
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * 회원의 현재 공부/휴식 상태 (타이머가 없으면 null)
+     */
+    public TimerStatus findStatus(Long memberId) {
+        return find(memberId).map(TimerSnapshot::timerStatus).orElse(null);
+    }
+
+    public TimerSnapshot toggle(Long memberId) {
+        return update(memberId, TimerState::toggleStatus);
+    }
+
+    public TimerSnapshot switchToPomodoroMode(Long memberId) {
+        return update(memberId, TimerState::switchToPomodoroMode);
+    }
+
+    public TimerSnapshot switchToBasicMode(Long memberId) {
+        return update(memberId, TimerState::switchToBasicMode);
+    }
+
+    public TimerSnapshot changePomodoroStatus(Long memberId, TimerStatus newStatus) {
+        return update(memberId, state -> state.changePomodoroStatus(newStatus));
+    }
+
+    /**
+     * 변경분 DB 반영 (write-behind)
+     * 실패하면 변경 표시를 되돌려 다음 주기에 다시 시도
+     */
+    @Scheduled(fixedDelayString = "${custom.timer.flush-interval-ms:10000}",
+               initialDelayString = "${custom.timer.flush-interval-ms:10000}")
+    public void flush() {
+        List<Long> removed = drain(removedMemberIds);
+        List<Long> dirty = drain(dirtyMemberIds);
+        if (removed.isEmpty() && dirty.isEmpty()) {
+            return;
+        }
+
+        List<TimerSnapshot> snapshots = new ArrayList<>();
+        for (Long memberId : dirty) {
+            TimerState state = timers.get(memberId);
+            if (state != null) {
+                snapshots.add(state.snapshot());
+            }
+        }
+
+        try {
+            Map<Long, Long> timerIds = snapshotWriter.write(removed, snapshots);
+            timerIds.forEach((memberId, timerId) -> {
+                TimerState state = timers.get(memberId);
+                if (state != null) {
+                    state.assignTimerId(timerId);
+                }
+            });
+            log.debug("개인 타이머 DB 반영 - 저장: {}개, 삭제: {}개", snapshots.size(), removed.size());
+        } catch (Exception e) {
+            removedMemberIds.addAll(removed);
+            dirtyMemberIds.addAll(dirty);
+            log.error("개인 타이머 DB 반영 실패 - 다음 주기에 재시도: {}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private TimerSnapshot update(Long memberId, Consumer<TimerState> change) {
+        TimerState state = getState(memberId);
+        change.accept(state);
+        dirtyMemberIds.add(memberId);
+        return state.snapshot();
+    }
+
+    private TimerState getState(Long memberId) {
+        TimerState state = timers.get(memberId);
+        if (state == null) {
+            throw new IllegalArgumentException("활성화된 타이머가 없습니다.");
+        }
+        return state;
+    }
+
+    /**
+     * 롤백된 시작 취소 (그 사이 다른 타이머로 바뀌었으면 유지)
+     */
+    private void discard(Long memberId, TimerState state) {
+        if (timers.remove(memberId, state)) {
+            removedMemberIds.add(memberId);
+        }
+    }
+
+    private static List<Long> drain(Set<Long> memberIds) {
+        List<Long> drained = new ArrayList<>();
+        for (Long memberId : memberIds) {
+            if (memberIds.remove(memberId)) {
+                drained.add(memberId);
+            }
+        }
+        return drained;
+    }
+}
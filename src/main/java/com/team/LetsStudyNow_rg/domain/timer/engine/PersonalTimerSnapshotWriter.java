@@ -0,0 +1,84 @@
+package com.team.LetsStudyNow_rg.domain.timer.engine;
+
+import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
+import com.team.LetsStudyNow_rg.domain.timer.repository.PersonalTimerRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 타이머 스냅샷의 DB(personal_timer) 반영 담당
+ * PersonalTimerEngine이 주기적으로, 그리고 종료 시 호출
+ */
+@Component
+@RequiredArgsConstructor
+public class PersonalTimerSnapshotWriter {
+
+    private final PersonalTimerRepository personalTimerRepository;
+
+    /**
+     * 저장된 타이머 전체 조회 (애플리케이션 시작 시 복구용)
+     */
+    @Transactional(readOnly = true)
+    public List<PersonalTimer> loadAll() {
+        return personalTimerRepository.findAll();
+    }
+
+    /**
+     * 종료된 타이머 삭제 후 변경된 타이머 저장 (한 트랜잭션)
+     *
+     * @param removedMemberIds 타이머가 종료된 회원 ID 목록
+     * @param snapshots 변경된 타이머 스냅샷 목록
+     * @return 회원 ID → 타이머 행 ID
+     */
+    @Transactional
+    public Map<Long, Long> write(Collection<Long> removedMemberIds, Collection<TimerSnapshot> snapshots) {
+        if (!removedMemberIds.isEmpty()) {
+            personalTimerRepository.deleteAllByMemberIds(removedMemberIds);
+        }
+        if (snapshots.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> memberIds = snapshots.stream().map(TimerSnapshot::memberId).toList();
+        Map<Long, PersonalTimer> existing = personalTimerRepository.findByMemberIdIn(memberIds).stream()
+                .collect(Collectors.toMap(PersonalTimer::getMemberId, Function.identity(), (first, second) -> first));
+
+        List<PersonalTimer> timers = new ArrayList<>();
+        for (TimerSnapshot snapshot : snapshots) {
+            PersonalTimer timer = existing.get(snapshot.memberId());
+            if (timer == null) {
+                timer = new PersonalTimer(
+                        snapshot.memberId(),
+                        snapshot.roomId(),
+                        snapshot.roomType(),
+                        snapshot.timerMode(),
+                        snapshot.timerStatus(),
+                        snapshot.sessionStartTime(),
+                        snapshot.totalStudySeconds(),
+                        snapshot.createdAt()
+                );
+            } else {
+                timer.update(
+                        snapshot.roomId(),
+                        snapshot.roomType(),
+                        snapshot.timerMode(),
+                        snapshot.timerStatus(),
+                        snapshot.sessionStartTime(),
+                        snapshot.totalStudySeconds()
+                );
+            }
+            timers.add(timer);
+        }
+
+        return personalTimerRepository.saveAll(timers).stream()
+                .collect(Collectors.toMap(PersonalTimer::getMemberId, PersonalTimer::getId, (first, second) -> first));
+    }
+}
@@ -0,0 +1,45 @@
+package com.team.LetsStudyNow_rg.domain.timer.engine;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerMode;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개인 타이머 상태 스냅샷 (읽기 전용)
+ *
+ * @param timerId DB 행 ID (아직 DB에 반영되지 않았으면 null)
+ * @param memberId 회원 ID
+ * @param roomId 현재 입장한 방 ID
+ * @param roomType 방 종류 (방 밖에서 시작한 타이머는 null)
+ * @param timerMode 기본 모드 or 뽀모도로 모드
+ * @param timerStatus 공부 중 or 휴식 중
+ * @param sessionStartTime 현재 세션 시작 시간
+ * @param currentSessionSeconds 현재 세션 경과 시간 (초)
+ * @param totalStudySeconds 현재 세션을 제외한 누적 공부 시간 (초)
+ * @param createdAt 타이머 생성 시간 (방 입장 시간)
+ */
+public record TimerSnapshot(
+        Long timerId,
+        Long memberId,
+        Long roomId,
+        ChatRoomType roomType,
+        TimerMode timerMode,
+        TimerStatus timerStatus,
+        LocalDateTime sessionStartTime,
+        long currentSessionSeconds,
+        long totalStudySeconds,
+        LocalDateTime createdAt
+) {
+    /**
+     * 지금 종료하면 누적될 총 공부 시간 (초)
+     * 공부 중이면 현재 세션 시간까지 포함
+     */
+    public long finalStudySeconds() {
+        if (timerStatus == TimerStatus.STUDYING) {
+            return totalStudySeconds + currentSessionSeconds;
+        }
+        return totalStudySeconds;
+    }
+}
@@ -0,0 +1,138 @@
+package com.team.LetsStudyNow_rg.domain.timer.engine;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerMode;
+import com.team.LetsStudyNow_rg.domain.timer.entity.TimerStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 1명의 메모리 타이머 상태
+ * 경과 시간은 System.nanoTime() 기준으로 계산 (시스템 시계 변경에 영향받지 않음)
+ * 상태 변경/조회는 객체 단위로 동기화
+ */
+final class TimerState {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long memberId;
+    private final long roomId;
+    private final ChatRoomType roomType;
+    private final LocalDateTime createdAt;
+    private Long timerId;
+
+    private TimerMode timerMode;
+    private TimerStatus timerStatus;
+    private long sessionStartNanos;
+    private long totalStudySeconds;
+
+    private TimerState(long memberId, long roomId, ChatRoomType roomType, TimerMode timerMode,
+                       TimerStatus timerStatus, long sessionStartNanos, long totalStudySeconds,
+                       LocalDateTime createdAt, Long timerId) {
+        this.memberId = memberId;
+        this.roomId = roomId;
+        this.roomType = roomType;
+        this.timerMode = timerMode;
+        this.timerStatus = timerStatus;
+        this.sessionStartNanos = sessionStartNanos;
+        this.totalStudySeconds = totalStudySeconds;
+        this.createdAt = createdAt;
+        this.timerId = timerId;
+    }
+
+    /**
+     * 방 입장 시 새 타이머 (기본 모드, 공부 상태로 시작)
+     */
+    static TimerState start(long memberId, long roomId, ChatRoomType roomType) {
+        return new TimerState(memberId, roomId, roomType, TimerMode.BASIC, TimerStatus.STUDYING,
+                System.nanoTime(), 0L, LocalDateTime.now(), null);
+    }
+
+    /**
+     * DB에 저장된 스냅샷에서 복구 (애플리케이션 시작 시)
+     */
+    static TimerState restore(PersonalTimer timer) {
+        long elapsedNanos = Math.max(0L,
+                Duration.between(timer.getSessionStartTime(), LocalDateTime.now()).toNanos());
+        return new TimerState(timer.getMemberId(), timer.getRoomId(), timer.getRoomType(),
+                timer.getTimerMode(), timer.getTimerStatus(), System.nanoTime() - elapsedNanos,
+                timer.getTotalStudySeconds(), timer.getCreatedAt(), timer.getId());
+    }
+
+    /**
+     * 수동 토글: 공부 ↔ 휴식 전환 (기본 모드에서만 가능)
+     */
+    synchronized void toggleStatus() {
+        if (timerMode == TimerMode.POMODORO) {
+            throw new IllegalStateException("뽀모도로 모드에서는 수동 토글을 사용할 수 없습니다.");
+        }
+        long now = System.nanoTime();
+        accumulateStudyTime(now);
+        timerStatus = (timerStatus == TimerStatus.STUDYING) ? TimerStatus.RESTING : TimerStatus.STUDYING;
+        sessionStartNanos = now;
+    }
+
+    /**
+     * 뽀모도로 모드로 전환
+     */
+    synchronized void switchToPomodoroMode() {
+        long now = System.nanoTime();
+        accumulateStudyTime(now);
+        timerMode = TimerMode.POMODORO;
+        sessionStartNanos = now;
+    }
+
+    /**
+     * 기본 모드로 전환
+     */
+    synchronized void switchToBasicMode() {
+        long now = System.nanoTime();
+        accumulateStudyTime(now);
+        timerMode = TimerMode.BASIC;
+        sessionStartNanos = now;
+    }
+
+    /**
+     * 뽀모도로 상태 변경 (공부 ↔ 휴식)
+     */
+    synchronized void changePomodoroStatus(TimerStatus newStatus) {
+        if (timerMode != TimerMode.POMODORO) {
+            throw new IllegalStateException("뽀모도로 모드가 아닙니다.");
+        }
+        long now = System.nanoTime();
+        accumulateStudyTime(now);
+        timerStatus = newStatus;
+        sessionStartNanos = now;
+    }
+
+    synchronized void assignTimerId(Long timerId) {
+        this.timerId = timerId;
+    }
+
+    synchronized TimerSnapshot snapshot() {
+        long elapsedNanos = System.nanoTime() - sessionStartNanos;
+        return new TimerSnapshot(
+                timerId,
+                memberId,
+                roomId,
+                roomType,
+                timerMode,
+                timerStatus,
+                LocalDateTime.now().minusNanos(elapsedNanos),
+                elapsedNanos / NANOS_PER_SECOND,
+                totalStudySeconds,
+                createdAt
+        );
+    }
+
+    /**
+     * 현재 세션이 공부 중이면 경과 시간(초)을 누적
+     */
+    private void accumulateStudyTime(long now) {
+        if (timerStatus == TimerStatus.STUDYING) {
+            totalStudySeconds += (now - sessionStartNanos) / NANOS_PER_SECOND;
+        }
+    }
+}
@@ -2,8 +2,13 @@ package com.team.LetsStudyNow_rg.domain.timer.repository;
 
 import com.team.LetsStudyNow_rg.domain.timer.entity.PersonalTimer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,8 +30,21 @@ public interface PersonalTimerRepository extends JpaRepository<PersonalTimer, Lo
      */
     java.util.List<PersonalTimer> findByRoomId(Long roomId);
 
+    /**
+     * 여러 사용자의 활성 타이머 일괄 조회 (방 일괄 정리용)
+     */
+    List<PersonalTimer> findByMemberIdIn(Collection<Long> memberIds);
+
     /**
      * 사용자의 활성 타이머 삭제
      */
     void deleteByMemberId(Long memberId);
+
+    /**
+     * 여러 사용자의 활성 타이머 일괄 삭제 (DELETE 한 번)
+     * 엔티티를 조회한 뒤 하나씩 지우지 않음
+     */
+    @Modifying
+    @Query("DELETE FROM PersonalTimer t WHERE t.memberId IN :memberIds")
+    int deleteAllByMemberIds(@Param("memberIds") Collection<Long> memberIds);
 }
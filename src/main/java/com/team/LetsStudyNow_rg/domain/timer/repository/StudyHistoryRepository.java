@@ -2,6 +2,7 @@ package com.team.LetsStudyNow_rg.domain.timer.repository;
 
 import com.team.LetsStudyNow_rg.domain.timer.entity.StudyHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -11,13 +12,29 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StudyHistoryRepository extends JpaRepository<StudyHistory, Long> {
+public interface StudyHistoryRepository extends JpaRepository<StudyHistory, Long>, StudyHistoryRepositoryCustom {
 
     /**
      * 특정 날짜의 공부 기록 조회
      */
     Optional<StudyHistory> findByMemberIdAndStudyDate(Long memberId, LocalDate studyDate);
 
+    /**
+     * 특정 날짜의 공부 시간 누적 (없으면 생성)
+     * 조회 없이 한 문장으로 처리 - (member_id, study_date) 유니크 키 충돌 시 기존 값에 더함
+     * 같은 회원/날짜에 대한 동시 요청도 중복 생성이나 누락 없이 반영됨
+     *
+     * @return 영향받은 행 수 (MySQL: 생성 1, 갱신 2)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO study_history (member_id, study_date, total_study_seconds, created_at, updated_at) " +
+                   "VALUES (:memberId, :studyDate, :studySeconds, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE total_study_seconds = total_study_seconds + :studySeconds, updated_at = NOW()",
+           nativeQuery = true)
+    int addStudySeconds(@Param("memberId") Long memberId,
+                        @Param("studyDate") LocalDate studyDate,
+                        @Param("studySeconds") Long studySeconds);
+
     /**
      * 사용자의 모든 공부 기록 조회 (최신순)
      */
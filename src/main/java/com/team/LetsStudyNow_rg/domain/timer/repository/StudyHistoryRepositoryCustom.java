@@ -0,0 +1,19 @@
+package com.team.LetsStudyNow_rg.domain.timer.repository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * StudyHistory 일괄 누적 (JDBC 배치)
+ */
+public interface StudyHistoryRepositoryCustom {
+
+    /**
+     * 여러 사용자의 특정 날짜 공부 시간 일괄 누적 (upsert 배치 한 번)
+     * 방 일괄 정리 시 사용
+     *
+     * @param studySecondsByMember 회원 ID → 추가할 공부 시간 (초)
+     * @param studyDate 공부한 날짜
+     */
+    void addStudySecondsInBatch(Map<Long, Long> studySecondsByMember, LocalDate studyDate);
+}
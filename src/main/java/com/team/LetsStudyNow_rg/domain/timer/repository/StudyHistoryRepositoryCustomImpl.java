@@ -0,0 +1,41 @@
+package com.team.LetsStudyNow_rg.domain.timer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class StudyHistoryRepositoryCustomImpl implements StudyHistoryRepositoryCustom {
+
+    // ON DUPLICATE KEY UPDATE 절에 파라미터가 있으면 드라이버가 다중 VALUES로 합치지 못하므로 VALUES()로 참조
+    // (rewriteBatchedStatements=true와 함께 배치 전체가 INSERT 한 문장으로 전송됨)
+    private static final String UPSERT_SQL =
+            "INSERT INTO study_history (member_id, study_date, total_study_seconds, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE total_study_seconds = total_study_seconds + VALUES(total_study_seconds), " +
+            "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addStudySecondsInBatch(Map<Long, Long> studySecondsByMember, LocalDate studyDate) {
+        if (studySecondsByMember.isEmpty()) {
+            return;
+        }
+
+        Date date = Date.valueOf(studyDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(studySecondsByMember.size());
+        studySecondsByMember.forEach((memberId, studySeconds) ->
+                batchArgs.add(new Object[]{memberId, date, studySeconds, now, now}));
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
@@ -1,9 +1,14 @@
 package com.team.LetsStudyNow_rg.domain.timer.service;
 
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.MemberPresence;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.MemberPresenceService;
+import com.team.LetsStudyNow_rg.domain.studyroom.service.RoomPresencePublisher;
 import com.team.LetsStudyNow_rg.domain.timer.dto.response.StudyTimeResponse;
 import com.team.LetsStudyNow_rg.domain.timer.dto.response.TimerStatusResponse;
+import com.team.LetsStudyNow_rg.domain.timer.engine.PersonalTimerEngine;
+import com.team.LetsStudyNow_rg.domain.timer.engine.TimerSnapshot;
 import com.team.LetsStudyNow_rg.domain.timer.entity.*;
-import com.team.LetsStudyNow_rg.domain.timer.repository.PersonalTimerRepository;
 import com.team.LetsStudyNow_rg.domain.timer.repository.PomodoroSettingRepository;
 import com.team.LetsStudyNow_rg.domain.timer.repository.StudyHistoryRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,38 +17,45 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 
+/**
+ * 개인 타이머 서비스
+ * 타이머 상태는 PersonalTimerEngine(메모리)에서 관리하고 DB 반영은 엔진이 모아서 처리
+ * 공부 기록(StudyHistory) 저장만 DB 트랜잭션을 사용
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PersonalTimerService {
 
-    private final PersonalTimerRepository personalTimerRepository;
+    private final PersonalTimerEngine timerEngine;
     private final PomodoroSettingRepository pomodoroSettingRepository;
     private final StudyHistoryRepository studyHistoryRepository;
+    private final RoomPresencePublisher presencePublisher;
+    private final MemberPresenceService memberPresenceService;
 
     /**
      * 타이머 시작 (방 입장 시)
      * - 스터디룸 입장 시 자동으로 타이머 시작
      * - 모든 참여자는 공부 상태(STUDYING)로 시작
+     * - 방 종류는 시작 시 입장 현황에서 한 번만 조회해서 타이머에 저장
+     *   (상태 변경 이벤트마다 공부 세션을 조회하지 않도록, 해당 방의 입장 기록이 없으면 방 종류 없이 시작)
      */
-    @Transactional
     public TimerStatusResponse startTimer(Long memberId, Long roomId, boolean isRoomCreator) {
-        // 이미 활성 타이머가 있는지 확인
-        if (personalTimerRepository.existsByMemberId(memberId)) {
-            throw new IllegalStateException("이미 활성화된 타이머가 있습니다. 한 번에 하나의 방에서만 타이머를 사용할 수 있습니다.");
-        }
+        ChatRoomType roomType = memberPresenceService.find(memberId)
+                .filter(presence -> presence.getRoomId().equals(roomId))
+                .map(MemberPresence::getRoomType)
+                .orElse(null);
+        return startTimer(memberId, roomId, roomType);
+    }
 
-        // 기본 모드로 시작
-        // 방 입장 시 모든 참여자는 공부 상태(STUDYING)로 시작
-        PersonalTimer timer = new PersonalTimer(
-                memberId,
-                roomId,
-                TimerMode.BASIC,
-                TimerStatus.STUDYING
-        );
-
-        PersonalTimer savedTimer = personalTimerRepository.save(timer);
-        return new TimerStatusResponse(savedTimer);
+    /**
+     * 타이머 시작 (방 종류 지정)
+     * 방 종류를 알고 있으면 상태 변경 이벤트 전송 시 세션 조회를 생략할 수 있음
+     * 호출한 트랜잭션이 롤백되면 시작도 취소됨
+     */
+    public TimerStatusResponse startTimer(Long memberId, Long roomId, ChatRoomType roomType) {
+        // 이미 활성 타이머가 있으면 IllegalStateException
+        TimerSnapshot timer = timerEngine.start(memberId, roomId, roomType);
+        return new TimerStatusResponse(timer);
     }
 
     /**
@@ -53,31 +65,23 @@ public class PersonalTimerService {
      */
     @Transactional
     public void endTimer(Long memberId) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
-
-        // 타이머 종료 및 시간 누적
-        timer.endTimer();
+        TimerSnapshot timer = timerEngine.get(memberId);
 
-        // StudyHistory에 저장
-        saveToStudyHistory(memberId, timer.getTotalStudySeconds());
+        // StudyHistory에 저장 (마지막 세션 시간 포함)
+        saveToStudyHistory(memberId, timer.finalStudySeconds());
 
-        // 타이머 삭제
-        personalTimerRepository.delete(timer);
+        // 타이머 제거 (커밋 후)
+        timerEngine.remove(memberId);
     }
 
     /**
      * 수동 토글 (공부 ↔ 휴식)
      * - 기본 모드에서만 작동
      */
-    @Transactional
     public TimerStatusResponse toggleTimer(Long memberId) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
-
         // 뽀모도로 모드에서는 수동 토글 불가
-        timer.toggleStatus();
-
+        TimerSnapshot timer = timerEngine.toggle(memberId);
+        publishStatusChange(timer);
         return new TimerStatusResponse(timer);
     }
 
@@ -86,18 +90,17 @@ public class PersonalTimerService {
      * - 기존 공부 시간 유지
      * - 뽀모도로 상태가 기준이 됨
      */
-    @Transactional
     public TimerStatusResponse startPomodoroMode(Long memberId) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
+        // 활성 타이머 확인
+        timerEngine.get(memberId);
 
         // 1.3.2: 뽀모도로 설정이 있는지 확인
         if (!pomodoroSettingRepository.existsByMemberId(memberId)) {
             throw new IllegalStateException("뽀모도로 설정이 필요합니다.");
         }
 
-        timer.switchToPomodoroMode();
-
+        TimerSnapshot timer = timerEngine.switchToPomodoroMode(memberId);
+        publishStatusChange(timer);
         return new TimerStatusResponse(timer);
     }
 
@@ -106,13 +109,9 @@ public class PersonalTimerService {
      * - 기본 모드로 전환
      * - 누적 데이터는 유지
      */
-    @Transactional
     public TimerStatusResponse stopPomodoroMode(Long memberId) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
-
-        timer.switchToBasicMode();
-
+        TimerSnapshot timer = timerEngine.switchToBasicMode(memberId);
+        publishStatusChange(timer);
         return new TimerStatusResponse(timer);
     }
 
@@ -121,13 +120,9 @@ public class PersonalTimerService {
      * - 공부 시간 완료 → 휴식으로 전환
      * - 휴식 시간 완료 → 공부로 전환
      */
-    @Transactional
     public TimerStatusResponse changePomodoroStatus(Long memberId, TimerStatus newStatus) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
-
-        timer.changePomodoroStatus(newStatus);
-
+        TimerSnapshot timer = timerEngine.changePomodoroStatus(memberId, newStatus);
+        publishStatusChange(timer);
         return new TimerStatusResponse(timer);
     }
 
@@ -135,10 +130,7 @@ public class PersonalTimerService {
      * 타이머 상태 조회
      */
     public TimerStatusResponse getTimerStatus(Long memberId) {
-        PersonalTimer timer = personalTimerRepository.findByMemberId(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("활성화된 타이머가 없습니다."));
-
-        return new TimerStatusResponse(timer);
+        return new TimerStatusResponse(timerEngine.get(memberId));
     }
 
     /**
@@ -146,6 +138,7 @@ public class PersonalTimerService {
      * - 총 누적 시간
      * - 오늘의 누적 시간
      */
+    @Transactional(readOnly = true)
     public StudyTimeResponse getStudyTime(Long memberId) {
         // 총 누적 시간
         Long totalSeconds = studyHistoryRepository.getTotalStudySecondsByMemberId(memberId);
@@ -160,20 +153,21 @@ public class PersonalTimerService {
     }
 
     /**
-     * StudyHistory에 공부 시간 저장
+     * 공부/휴식 상태 변경 이벤트 전송
+     * (참여자 목록의 상태는 엔진에서 바로 읽으므로 캐시 무효화 불필요)
+     */
+    private void publishStatusChange(TimerSnapshot timer) {
+        presencePublisher.publishStatusChange(timer.memberId(), timer.roomType(), timer.roomId(), timer.timerStatus());
+    }
+
+    /**
+     * StudyHistory에 공부 시간 저장 (upsert 한 번, 조회 없음)
      */
     private void saveToStudyHistory(Long memberId, Long studySeconds) {
         if (studySeconds == 0) {
             return;  // 공부 시간이 0이면 저장하지 않음
         }
 
-        LocalDate today = LocalDate.now();
-
-        StudyHistory history = studyHistoryRepository
-                .findByMemberIdAndStudyDate(memberId, today)
-                .orElseGet(() -> new StudyHistory(memberId, today, 0L));
-
-        history.addStudyTime(studySeconds);
-        studyHistoryRepository.save(history);
+        studyHistoryRepository.addStudySeconds(memberId, LocalDate.now(), studySeconds);
     }
 }
@@ -0,0 +1,125 @@
+package com.team.LetsStudyNow_rg.global.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 크기 제한이 있는 단순 TTL 캐시
+ * 짧은 시간 동안 같은 조회가 반복되는 곳(목록 개수, 참여자 목록 등)에서 DB 부하를 줄이기 위해 사용
+ *
+ * - 항목은 저장 후 ttl이 지나면 만료 (저장 시 더 이른 만료 시각을 지정할 수 있음)
+ * - 최대 개수를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 임의의 항목을 제거
+ * - null 값은 캐시하지 않음
+ * - loader로 읽는 동안 무효화가 있었으면 읽은 값은 반환만 하고 저장하지 않음 (무효화 전에 읽은 값이 남지 않도록)
+ */
+public class TtlCache<K, V> {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    // 무효화 횟수 (loader로 읽는 동안의 무효화 감지용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TtlCache(Duration ttl, int maxSize) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 캐시된 값을 반환하고, 없거나 만료됐으면 loader로 읽어서 저장
+     *
+     * @param key 캐시 키
+     * @param loader 캐시 미스 시 값을 읽어오는 함수
+     * @return 캐시된 값 또는 새로 읽은 값
+     */
+    public V get(K key, Function<K, V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt() > now) {
+            return entry.value();
+        }
+
+        long invalidationsBefore = invalidations.get();
+        V value = loader.apply(key);
+        if (invalidations.get() == invalidationsBefore) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 만료되지 않은 캐시 값 반환 (없으면 null)
+     */
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 값 저장
+     */
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * 만료 시각을 지정해서 값 저장 (기본 ttl보다 늦으면 ttl 기준으로 만료)
+     *
+     * @param expiresAtMillis 만료 시각 (epoch millis)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (value == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(expiresAtMillis, now + ttlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, new Entry<>(value, expiresAt));
+    }
+
+    /**
+     * 특정 키 무효화
+     */
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -1,8 +1,6 @@
 package com.team.LetsStudyNow_rg.global.config;
 
-import com.team.LetsStudyNow_rg.global.auth.CustomUser;
 import com.team.LetsStudyNow_rg.global.jwt.JwtUtil;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
@@ -14,11 +12,8 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -42,28 +37,8 @@ public class StompHandler implements ChannelInterceptor {
             String token = authorization.substring(7);
 
             try {
-                // 토큰 검증
-                Claims claims = JwtUtil.extractToken(token);
-
-                // 권한 정보 파싱 (JwtFilter 로직과 동일)
-                var arr = claims.get("authorities").toString().split(",");
-                var authorities = Arrays.stream(arr).map(SimpleGrantedAuthority::new).toList();
-
-                // CustomUser 생성
-                CustomUser customUser = new CustomUser(
-                        claims.get("email").toString(),
-                        "none",
-                        authorities
-                );
-                customUser.username = claims.get("username").toString();
-                customUser.email = claims.get("email").toString();
-
-                Number n = claims.get("id", Number.class);
-                if (n != null) customUser.id = n.longValue();
-
-                // 인증 객체 생성 및 주입
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(customUser, null, authorities);
+                // 토큰 검증 및 인증 객체 생성 (JwtFilter와 같은 캐시 사용)
+                UsernamePasswordAuthenticationToken auth = JwtUtil.getAuthentication(token);
 
                 accessor.setUser(auth); // ★ 핵심: WebSocket Session에 유저 정보 저장
 
@@ -1,6 +1,9 @@
 package com.team.LetsStudyNow_rg.global.config;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -8,6 +11,7 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
@@ -15,6 +19,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
 
+    // 브로커 모드: simple (단일 서버, 인메모리) | relay (외부 STOMP 브로커로 중계, 다중 서버)
+    @Value("${custom.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Value("${custom.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${custom.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${custom.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${custom.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
+    // 앱 서버를 한 대만 띄운다는 확인 (릴레이 모드 필수)
+    @Value("${custom.websocket.relay.single-node:false}")
+    private boolean relaySingleNode;
+
+    /**
+     * 릴레이 모드 시작 전 확인
+     * 오픈 스터디 입장 레지스트리(OpenStudyRoomRegistry), 개인 타이머 엔진(PersonalTimerEngine),
+     * 방 마감 스케줄러(RoomDeadlineScheduler), 최근 채팅 버퍼(RecentChatBuffer)는 서버 메모리에만 있으므로
+     * 릴레이로 서버를 여러 대 띄우면 정원 확인, 타이머, 채팅 내역 첫 페이지가 서버마다 달라짐
+     * → 서버 한 대임을 명시한 경우에만 릴레이 모드로 시작 (브로커만 외부로 분리)
+     */
+    @PostConstruct
+    public void validateBrokerMode() {
+        if ("relay".equalsIgnoreCase(brokerMode) && !relaySingleNode) {
+            throw new IllegalStateException(
+                    "STOMP 브로커 릴레이 모드는 단일 서버에서만 사용할 수 있습니다. " +
+                    "방 입장 레지스트리, 개인 타이머, 방 마감 스케줄러가 서버 메모리에 있어 여러 서버에서 공유되지 않습니다. " +
+                    "서버 한 대로 운영하는 경우 custom.websocket.relay.single-node=true로 설정하세요.");
+        }
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 1. 클라이언트가 웹소켓 서버에 연결할 주소 (ws://localhost:8080/ws-stomp)
@@ -31,7 +72,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 2. 구독 요청 (서버 -> 클라이언트)
-        registry.enableSimpleBroker("/sub");
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 브로커(ActiveMQ Artemis 등)가 /sub/** 구독을 관리 (구독자 관리/전송을 서버 메모리 밖으로 분리)
+            // 서버 여러 대 운영은 노드 로컬 상태가 공유된 뒤에 가능 (validateBrokerMode 참고)
+            registry.enableStompBrokerRelay("/sub")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+            log.info("STOMP 브로커 릴레이 사용 - {}:{}", relayHost, relayPort);
+        } else {
+            registry.enableSimpleBroker("/sub");
+        }
 
         // 3. 발행 요청 (클라이언트 -> 서버)
         registry.setApplicationDestinationPrefixes("/pub");
@@ -0,0 +1,122 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+import java.awt.geom.AffineTransform;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JPEG EXIF 방향 정보 (1~8)
+ * 휴대폰 사진은 회전된 채 저장되고 방향만 EXIF에 기록되는데,
+ * 재인코딩하면 EXIF가 사라지므로 변환할 때 직접 회전시켜야 함
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG 헤더에서 방향 읽기 (없거나 JPEG가 아니면 NORMAL)
+     */
+    static int read(InputStream inputStream) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(inputStream));
+        try {
+            if (data.readUnsignedShort() != 0xFFD8) {
+                return NORMAL;
+            }
+            while (true) {
+                int marker = data.readUnsignedShort();
+                // SOS(이미지 데이터 시작) 이후에는 메타데이터 없음
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return NORMAL;
+                }
+                int length = data.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return NORMAL;
+                }
+                if (marker == 0xFFE1) {
+                    byte[] segment = new byte[length];
+                    data.readFully(segment);
+                    int orientation = parseExif(segment);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                } else {
+                    data.skipNBytes(length);
+                }
+            }
+        } catch (EOFException e) {
+            return NORMAL;
+        }
+    }
+
+    /**
+     * 방향에 맞게 바로 세우는 변환 (width, height는 저장된 이미지 크기)
+     */
+    static AffineTransform transform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);       // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);      // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);            // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);      // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width); // 반대 전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);       // 반시계 방향 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * 가로/세로가 바뀌는 방향인지 (5~8)
+     */
+    static boolean swapsDimensions(int orientation) {
+        return orientation >= 5 && orientation <= 8;
+    }
+
+    private static int parseExif(byte[] segment) {
+        // "Exif\0\0" + TIFF 헤더(8바이트)
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I' && segment[tiff + 1] == 'I';
+        long ifdOffset = readInt(segment, tiff + 4, littleEndian);
+        if (ifdOffset < 0 || tiff + ifdOffset + 2 > segment.length) {
+            return 0;
+        }
+        int ifd = tiff + (int) ifdOffset;
+        int entryCount = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                break;
+            }
+            if (readShort(segment, entry, littleEndian) == ORIENTATION_TAG) {
+                int orientation = readShort(segment, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 0;
+            }
+        }
+        return 0;
+    }
+
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static long readInt(byte[] bytes, int offset, boolean littleEndian) {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            int b = bytes[offset + (littleEndian ? 3 - i : i)] & 0xFF;
+            value = (value << 8) | b;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,267 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 업로드 이미지 변환기
+ *
+ * 원본을 디코딩해서 ImageSize별 크기로 줄이고 다시 인코딩 (불투명: JPEG, 투명: PNG)
+ * - 전용 스레드 풀에서 실행 (CPU 사용량 제한, 대기열이 차면 거절)
+ * - 디코딩 메모리를 예산(MEMORY_BUDGET_BYTES) 안에서만 사용 (큰 이미지는 서브샘플링으로 줄여서 디코딩)
+ * - EXIF 방향을 반영해서 바로 세움
+ * - 변환하지 않는 형식(GIF 애니메이션, WebP 등)이나 디코딩할 수 없는 이미지는 빈 값 반환 → 원본 그대로 저장
+ */
+@Slf4j
+@Component
+public class ImageResizer {
+
+    private static final Set<String> CONVERTIBLE_TYPES = Set.of("image/jpeg", "image/png");
+
+    private static final long MEMORY_BUDGET_BYTES = 128L * 1024 * 1024; // 동시 디코딩 메모리 합계
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;            // 원본 최대 픽셀 수 (약 7000x7000)
+    private static final long MEMORY_WAIT_SECONDS = 10;
+    private static final long RESIZE_TIMEOUT_SECONDS = 30;
+    private static final int WORKER_QUEUE_CAPACITY = 16;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final Semaphore memoryBudget = new Semaphore(toPermits(MEMORY_BUDGET_BYTES));
+    private final ThreadPoolExecutor resizeExecutor;
+
+    public ImageResizer() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        this.resizeExecutor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WORKER_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-resize");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 이미지를 ImageSize별로 변환
+     *
+     * @param source 원본 (두 번 읽음: EXIF, 디코딩)
+     * @return 크기별 변환 결과, 변환하지 않는 형식이면 빈 값
+     * @throws IllegalArgumentException 이미지를 읽을 수 없거나 너무 큰 경우
+     * @throws IllegalStateException 변환 요청이 많아 처리할 수 없는 경우
+     */
+    public Optional<Map<ImageSize, ResizedImage>> resize(InputStreamSource source, String contentType) {
+        if (contentType == null || !CONVERTIBLE_TYPES.contains(contentType)) {
+            return Optional.empty();
+        }
+
+        Future<Map<ImageSize, ResizedImage>> future;
+        try {
+            future = resizeExecutor.submit(() -> resizeNow(source));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return Optional.of(future.get(RESIZE_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            // 디코딩할 수 없는 변형 형식(CMYK JPEG 등) → 원본 그대로 저장
+            log.warn("이미지 변환 실패 - 원본 저장: {}", e.getCause().getMessage());
+            return Optional.empty();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new IllegalStateException("이미지 처리 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 처리가 중단되었습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizeExecutor.shutdown();
+    }
+
+    private Map<ImageSize, ResizedImage> resizeNow(InputStreamSource source) throws IOException, InterruptedException {
+        int orientation;
+        try (InputStream inputStream = source.getInputStream()) {
+            orientation = ExifOrientation.read(inputStream);
+        }
+
+        try (InputStream inputStream = source.getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            ImageReader reader = findReader(imageInput);
+            try {
+                reader.setInput(imageInput, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. (" + width + "x" + height + ")");
+                }
+
+                // 가장 큰 출력 크기의 2배 이상만 남기고 서브샘플링해서 디코딩 (메모리/CPU 절약)
+                int subsampling = Math.max(1, Math.max(width, height) / (ImageSize.DISPLAY.getMaxEdge() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                long decodedBytes = (long) ceilDiv(width, subsampling) * ceilDiv(height, subsampling) * 4;
+                int permits = Math.min(toPermits(decodedBytes), toPermits(MEMORY_BUDGET_BYTES));
+                if (!memoryBudget.tryAcquire(permits, MEMORY_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+                try {
+                    BufferedImage decoded = reader.read(0, param);
+                    return encodeAll(decoded, orientation);
+                } finally {
+                    memoryBudget.release(permits);
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private ImageReader findReader(ImageInputStream imageInput) {
+        if (imageInput == null) {
+            throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+        if (!readers.hasNext()) {
+            throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
+        }
+        return readers.next();
+    }
+
+    private Map<ImageSize, ResizedImage> encodeAll(BufferedImage decoded, int orientation) throws IOException {
+        boolean transparent = decoded.getColorModel().hasAlpha();
+        Map<ImageSize, ResizedImage> results = new EnumMap<>(ImageSize.class);
+
+        // 큰 크기부터 만들고, 작은 크기는 앞 결과를 다시 줄여서 만듦
+        BufferedImage current = decoded;
+        for (ImageSize size : new ImageSize[]{ImageSize.DISPLAY, ImageSize.THUMBNAIL}) {
+            current = scaleDown(current, size.getMaxEdge(), transparent);
+            BufferedImage oriented = orient(current, orientation, transparent);
+            results.put(size, transparent
+                    ? new ResizedImage(size, encodePng(oriented), "image/png", ".png")
+                    : new ResizedImage(size, encodeJpeg(oriented), "image/jpeg", ".jpg"));
+        }
+        return results;
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소 (절반씩 여러 번 줄여서 계단 현상 방지)
+     */
+    private BufferedImage scaleDown(BufferedImage image, int maxEdge, boolean transparent) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            int nextHeight = Math.max(targetHeight, current.getHeight() / 2);
+
+            BufferedImage next = newImage(nextWidth, nextHeight, transparent);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!transparent) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, nextWidth, nextHeight);
+                }
+                graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private BufferedImage orient(BufferedImage image, int orientation, boolean transparent) {
+        if (orientation == ExifOrientation.NORMAL) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        BufferedImage oriented = newImage(swap ? height : width, swap ? width : height, transparent);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.drawImage(image, ExifOrientation.transform(orientation, width, height), null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    private BufferedImage newImage(int width, int height, boolean transparent) {
+        return new BufferedImage(width, height, transparent ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    private byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static int ceilDiv(int value, int divisor) {
+        return (value + divisor - 1) / divisor;
+    }
+
+    // 세마포어 단위: 1KB
+    private static int toPermits(long bytes) {
+        return (int) Math.max(1, (bytes + 1023) / 1024);
+    }
+}
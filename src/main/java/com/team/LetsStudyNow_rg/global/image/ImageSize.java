@@ -0,0 +1,17 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 변환 크기 (긴 변 기준 최대 픽셀)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageSize {
+    THUMBNAIL("thumb", 240),   // 채팅 목록 미리보기
+    DISPLAY("display", 1280);  // 원본 대신 보여줄 크기
+
+    private final String suffix;
+    private final int maxEdge;
+}
@@ -0,0 +1,14 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+/**
+ * 변환된 이미지 한 장
+ *
+ * @param extension 저장할 파일 확장자 (".jpg", ".png")
+ */
+public record ResizedImage(
+        ImageSize size,
+        byte[] bytes,
+        String contentType,
+        String extension
+) {
+}
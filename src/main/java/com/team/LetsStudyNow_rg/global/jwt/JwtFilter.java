@@ -1,22 +1,17 @@
 package com.team.LetsStudyNow_rg.global.jwt;
 
-import com.team.LetsStudyNow_rg.global.auth.CustomUser;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j; // 로그 확인용
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 
 @Slf4j
 @Component
@@ -58,30 +53,8 @@ public class JwtFilter extends OncePerRequestFilter {
 
         // 3. 토큰 검증 및 인증 객체 생성
         try {
-            Claims claims = JwtUtil.extractToken(jwtToken);
-
-            // 권한 정보 파싱
-            var arr = claims.get("authorities").toString().split(",");
-            var authorities = Arrays.stream(arr).map(SimpleGrantedAuthority::new).toList();
-
-            // CustomUser 생성
-            CustomUser customUser = new CustomUser(
-                    claims.get("email").toString(),
-                    "none",
-                    authorities
-            );
-            customUser.username = claims.get("username").toString();
-            customUser.email = claims.get("email").toString();
-
-            Number n = claims.get("id", Number.class);
-            if (n != null) customUser.id = n.longValue();
-
-            // SecurityContext에 저장
-            var authToken = new UsernamePasswordAuthenticationToken(
-                    customUser,
-                    null,
-                    authorities
-            );
+            // 검증된 토큰은 캐시에서 바로 꺼냄 (서명 검증/파싱 생략)
+            var authToken = JwtUtil.getAuthentication(jwtToken);
             authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authToken);
 
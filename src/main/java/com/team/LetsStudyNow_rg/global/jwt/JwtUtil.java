@@ -1,16 +1,25 @@
 package com.team.LetsStudyNow_rg.global.jwt;
 
 import com.team.LetsStudyNow_rg.global.auth.CustomUser;
+import com.team.LetsStudyNow_rg.global.cache.TtlCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -18,6 +27,11 @@ import java.util.stream.Collectors;
 public class JwtUtil {
     private static SecretKey key;
 
+    // 검증이 끝난 토큰의 인증 정보 캐시 (토큰 다이제스트 → 인증 객체, 토큰 만료 시각에 만료)
+    // 같은 세션의 반복 요청은 서명 검증/JSON 파싱 없이 통과
+    private static final TtlCache<String, UsernamePasswordAuthenticationToken> authenticationCache =
+            new TtlCache<>(Duration.ofHours(1), 10_000);
+
     @Value("${jwt.secret.key}")
     private String secret;
 
@@ -52,4 +66,48 @@ public class JwtUtil {
                 .parseSignedClaims(token).getPayload();
         return claims;
     }
+
+    // JWT 검증 후 인증 객체 반환 (캐시 사용)
+    // 반환값은 요청마다 새로 만든 객체라서 details 등을 설정해도 캐시에 영향 없음
+    public static UsernamePasswordAuthenticationToken getAuthentication(String token) {
+        String digest = digest(token);
+        UsernamePasswordAuthenticationToken cached = authenticationCache.getIfPresent(digest);
+        if (cached == null) {
+            Claims claims = extractToken(token);
+            cached = createAuthentication(claims);
+            authenticationCache.put(digest, cached, claims.getExpiration().getTime());
+        }
+        return new UsernamePasswordAuthenticationToken(cached.getPrincipal(), null, cached.getAuthorities());
+    }
+
+    // 캐시 없이 매번 하던 작업 (벤치마크에서 캐시 경로와 비교하므로 패키지 범위)
+    static UsernamePasswordAuthenticationToken createAuthentication(Claims claims) {
+        // 권한 정보 파싱
+        var arr = claims.get("authorities").toString().split(",");
+        var authorities = Arrays.stream(arr).map(SimpleGrantedAuthority::new).toList();
+
+        // CustomUser 생성
+        CustomUser customUser = new CustomUser(
+                claims.get("email").toString(),
+                "none",
+                authorities
+        );
+        customUser.username = claims.get("username").toString();
+        customUser.email = claims.get("email").toString();
+
+        Number n = claims.get("id", Number.class);
+        if (n != null) customUser.id = n.longValue();
+
+        return new UsernamePasswordAuthenticationToken(customUser, null, authorities);
+    }
+
+    // 토큰 원문 대신 SHA-256 다이제스트를 캐시 키로 사용 (메모리에 토큰을 남기지 않음)
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
 }
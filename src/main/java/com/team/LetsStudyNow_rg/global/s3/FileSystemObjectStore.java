@@ -0,0 +1,94 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 로컬 파일시스템 저장소 (S3 없이 개발/테스트할 때 사용)
+ * custom.storage.filesystem.root 아래에 키 경로 그대로 저장하고, base-url + 키를 URL로 사용
+ * 저장한 파일은 이 서버가 base-url의 경로(기본 /uploads/**)로 직접 제공
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.storage.type", havingValue = "filesystem")
+public class FileSystemObjectStore implements ObjectStore, WebMvcConfigurer {
+
+    private final Path root;
+    private final String baseUrl;
+
+    public FileSystemObjectStore(
+            @Value("${custom.storage.filesystem.root:./uploads}") String root,
+            @Value("${custom.storage.filesystem.base-url:http://localhost:8080/uploads}") String baseUrl
+    ) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * base-url 경로로 들어온 요청을 root 디렉터리의 파일로 응답
+     * (base-url에 경로가 없으면 다른 서버가 제공하는 것으로 보고 등록하지 않음)
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String path = URI.create(baseUrl).getPath();
+        if (path == null || path.isEmpty()) {
+            return;
+        }
+        registry.addResourceHandler(path + "/**")
+                .addResourceLocations("file:" + root + "/");
+    }
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+
+        // 임시 파일에 쓴 뒤 이동 (중간에 실패해도 반쯤 쓴 파일이 보이지 않음)
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", null);
+        try {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.error("파일 삭제 실패: key={}", key, e);
+        }
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return baseUrl + "/" + key;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        String prefix = baseUrl + "/";
+        return url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
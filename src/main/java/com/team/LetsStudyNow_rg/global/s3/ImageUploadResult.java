@@ -0,0 +1,13 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+/**
+ * 이미지 업로드 결과 URL
+ *
+ * @param imageUrl     화면 표시용 (긴 변 최대 1280px)
+ * @param thumbnailUrl 미리보기용 (긴 변 최대 240px)
+ */
+public record ImageUploadResult(
+        String imageUrl,
+        String thumbnailUrl
+) {
+}
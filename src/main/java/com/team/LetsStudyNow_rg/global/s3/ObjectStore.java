@@ -0,0 +1,30 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 파일 저장소 (custom.storage.type: s3 | filesystem)
+ * 업로드 검증/키 생성은 S3Service가 하고, 저장소는 전달받은 스트림을 그대로 저장
+ */
+public interface ObjectStore {
+
+    /**
+     * 스트림을 메모리에 모으지 않고 그대로 저장
+     *
+     * @param size 검증이 끝난 정확한 파일 크기
+     */
+    void put(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    void delete(String key);
+
+    /**
+     * 공개 URL (원격 호출 없이 계산)
+     */
+    String urlOf(String key);
+
+    /**
+     * URL → 키 (이 저장소의 URL이 아니면 null)
+     */
+    String keyOf(String url);
+}
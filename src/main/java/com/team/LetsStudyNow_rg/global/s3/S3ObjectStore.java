@@ -0,0 +1,63 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * S3 저장소
+ *
+ * - 크기를 알려주고 PutObject 한 번으로 스트리밍 (업로드는 custom.storage.max-file-size-bytes로 제한되므로 멀티파트 불필요)
+ * - URL은 SDK 유틸리티로 계산 (업로드 후 다시 조회하지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.storage.type", havingValue = "s3", matchIfMissing = true)
+@RequiredArgsConstructor
+public class S3ObjectStore implements ObjectStore {
+
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucket;
+
+    @Override
+    public void put(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+        s3Client.putObject(request, RequestBody.fromInputStream(inputStream, size));
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Client.deleteObject(request -> request.bucket(bucket).key(key));
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return s3Client.utilities().getUrl(request -> request.bucket(bucket).key(key)).toString();
+    }
+
+    @Override
+    public String keyOf(String url) {
+        // 예: https://s3.../bucket/profile/abc.jpg -> profile/abc.jpg
+        String splitStr = ".com/";
+        int splitIndex = url.indexOf(splitStr);
+        if (splitIndex == -1) {
+            return null;
+        }
+        return URLDecoder.decode(url.substring(splitIndex + splitStr.length()), StandardCharsets.UTF_8);
+    }
+}
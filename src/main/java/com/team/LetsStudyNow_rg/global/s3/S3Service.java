@@ -1,69 +1,163 @@
 package com.team.LetsStudyNow_rg.global.s3;
 
 import com.team.LetsStudyNow_rg.global.exception.S3Exception;
-import io.awspring.cloud.s3.ObjectMetadata;
-import io.awspring.cloud.s3.S3Template;
+import com.team.LetsStudyNow_rg.global.image.ImageResizer;
+import com.team.LetsStudyNow_rg.global.image.ImageSize;
+import com.team.LetsStudyNow_rg.global.image.ResizedImage;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
 
-    private final S3Template s3Template;
+    private static final int UPLOAD_THREADS = 4;
+    private static final int UPLOAD_QUEUE_CAPACITY = 32;
+    private static final long UPLOAD_TIMEOUT_SECONDS = 60;
 
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucket;
+    // 저장 파일 확장자는 검증한 형식으로 결정 (클라이언트 파일명의 확장자는 믿지 않음 - x.html 등으로 저장되지 않도록)
+    // 목록에 없는 형식은 확장자 없이 저장
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp"
+    );
+
+    private final ObjectStore objectStore;
+    private final ImageResizer imageResizer;
+
+    // 업로드 전용 스레드 풀 (동시 업로드 수 제한, 대기열이 차면 바로 거절)
+    private final ThreadPoolExecutor uploadExecutor = new ThreadPoolExecutor(
+            UPLOAD_THREADS, UPLOAD_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(UPLOAD_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "object-upload");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    @Value("${custom.storage.max-file-size-bytes:10485760}")
+    private long maxFileSize;
+
+    @Value("${custom.storage.allowed-content-types:image/jpeg,image/png,image/gif,image/webp}")
+    private Set<String> allowedContentTypes;
 
     /**
      * 파일 업로드 메서드 (재사용 가능)
+     * 크기/형식을 먼저 검증한 뒤 업로드 스레드에서 스트리밍 업로드하고, URL은 저장소에서 계산
      *
      * @param file    업로드할 파일
      * @param dirName S3 내부 폴더 이름 (예: "profile", "chat")
      * @return 업로드된 파일의 전체 URL
      */
     public String uploadFile(MultipartFile file, String dirName) {
-        // 파일 검증 (비어있는지 확인)
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 존재하지 않습니다.");
-        }
+        // 파일 검증 (비어있는지, 크기, 형식)
+        validate(file);
 
         // 파일명 생성 (uuid, 중복 방지)
-        String originalFilename = file.getOriginalFilename();
-        String extension = "";
-        if (originalFilename != null && originalFilename.contains(".")) {
-            extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        String s3FileName = newFileName(dirName) + extensionOf(file.getContentType());
+
+        await(submit(s3FileName, file, file.getSize(), file.getContentType()), s3FileName);
+
+        // URL 반환 (원격 조회 없음)
+        return objectStore.urlOf(s3FileName);
+    }
+
+    /**
+     * 이미지 업로드 메서드 (채팅, 프로필)
+     * 원본 대신 표시용/미리보기용 크기로 줄여서 저장하고 각 URL 반환
+     * 줄일 수 없는 형식(GIF, WebP 등)은 원본을 저장하고 두 URL 모두 원본 URL
+     *
+     * @param file    업로드할 이미지
+     * @param dirName S3 내부 폴더 이름 (예: "profile", "chat")
+     */
+    public ImageUploadResult uploadImage(MultipartFile file, String dirName) {
+        validate(file);
+
+        Optional<Map<ImageSize, ResizedImage>> resized = imageResizer.resize(file, file.getContentType());
+        if (resized.isEmpty()) {
+            String url = uploadFile(file, dirName);
+            return new ImageUploadResult(url, url);
         }
-        String s3FileName = dirName + "/" + UUID.randomUUID().toString().substring(0, 10) + extension;
-
-        // 메타데이터 설정
-        ObjectMetadata metadata = ObjectMetadata.builder()
-                .contentType(file.getContentType())
-                .contentLength(file.getSize())
-                .build();
-
-        // S3 업로드
-        try (InputStream inputStream = file.getInputStream()) {
-            s3Template.upload(bucket, s3FileName, inputStream, metadata);
-
-            // URL 반환
-            return s3Template.download(bucket, s3FileName).getURL().toString();
-        } catch (IOException e) {
-            log.error("S3 파일 업로드 실패: {}", s3FileName, e);
-            throw new S3Exception("S3 파일 업로드 실패", e);
+
+        // 예: chat/ab12cd34ef_display.jpg, chat/ab12cd34ef_thumb.jpg
+        String baseName = newFileName(dirName);
+        ResizedImage display = resized.get().get(ImageSize.DISPLAY);
+        ResizedImage thumbnail = resized.get().get(ImageSize.THUMBNAIL);
+        String displayName = baseName + "_" + ImageSize.DISPLAY.getSuffix() + display.extension();
+        String thumbnailName = baseName + "_" + ImageSize.THUMBNAIL.getSuffix() + thumbnail.extension();
+
+        Future<?> displayUpload = submit(displayName, new ByteArrayResource(display.bytes()),
+                display.bytes().length, display.contentType());
+        Future<?> thumbnailUpload = submit(thumbnailName, new ByteArrayResource(thumbnail.bytes()),
+                thumbnail.bytes().length, thumbnail.contentType());
+        await(displayUpload, displayName);
+        await(thumbnailUpload, thumbnailName);
+
+        return new ImageUploadResult(objectStore.urlOf(displayName), objectStore.urlOf(thumbnailName));
+    }
+
+    private Future<?> submit(String s3FileName, InputStreamSource source, long size, String contentType) {
+        try {
+            return uploadExecutor.submit(() -> {
+                try (InputStream inputStream = source.getInputStream()) {
+                    objectStore.put(s3FileName, inputStream, size, contentType);
+                }
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("업로드 대기열 초과: {}", s3FileName);
+            throw new S3Exception("업로드 요청이 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    private void await(Future<?> upload, String s3FileName) {
+        try {
+            upload.get(UPLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            log.error("S3 파일 업로드 실패: {}", s3FileName, e.getCause());
+            throw new S3Exception("S3 파일 업로드 실패", e.getCause());
+        } catch (TimeoutException e) {
+            upload.cancel(true);
+            log.error("S3 파일 업로드 시간 초과: {}", s3FileName);
+            throw new S3Exception("S3 파일 업로드 시간 초과", e);
+        } catch (InterruptedException e) {
+            upload.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new S3Exception("S3 파일 업로드 중단", e);
         }
     }
 
+    private String newFileName(String dirName) {
+        return dirName + "/" + UUID.randomUUID().toString().substring(0, 10);
+    }
+
+    private String extensionOf(String contentType) {
+        return EXTENSIONS.getOrDefault(contentType.toLowerCase(Locale.ROOT), "");
+    }
+
     /**
      * S3 파일 삭제 메서드
      *
@@ -71,19 +165,38 @@ public class S3Service {
      */
     public void deleteFile(String fileUrl) {
         try {
-            // 예: https://s3.../bucket/profile/abc.jpg -> profile/abc.jpg
-            String splitStr = ".com/";
-            int splitIndex = fileUrl.indexOf(splitStr);
-
-            if (splitIndex != -1) {
-                String fileName = fileUrl.substring(splitIndex + splitStr.length());
+            String fileName = objectStore.keyOf(fileUrl);
+            if (fileName != null) {
+                objectStore.delete(fileName);
 
-                String decodedFileName = URLDecoder.decode(fileName, StandardCharsets.UTF_8);
-
-                s3Template.deleteObject(bucket, decodedFileName);
+                // 표시용 이미지면 같은 이름의 미리보기 이미지도 삭제
+                String displayMarker = "_" + ImageSize.DISPLAY.getSuffix() + ".";
+                int markerIndex = fileName.lastIndexOf(displayMarker);
+                if (markerIndex != -1) {
+                    String thumbnailPrefix = fileName.substring(0, markerIndex) + "_" + ImageSize.THUMBNAIL.getSuffix();
+                    objectStore.delete(thumbnailPrefix + fileName.substring(markerIndex + displayMarker.length() - 1));
+                }
             }
         } catch (Exception e) {
             log.error("S3 파일 삭제 실패: url={}", fileUrl, e);
         }
     }
-}
\ No newline at end of file
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+
+    private void validate(MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 존재하지 않습니다.");
+        }
+        if (file.getSize() > maxFileSize) {
+            throw new IllegalArgumentException("파일 크기는 " + (maxFileSize / 1024 / 1024) + "MB 이하만 가능합니다.");
+        }
+        String contentType = file.getContentType();
+        if (contentType == null || !allowedContentTypes.contains(contentType.toLowerCase(Locale.ROOT))) {
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (" + contentType + ")");
+        }
+    }
+}
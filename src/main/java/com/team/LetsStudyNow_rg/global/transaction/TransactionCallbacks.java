@@ -0,0 +1,53 @@
+package com.team.LetsStudyNow_rg.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 완료 시점에 실행할 작업을 등록하는 유틸리티
+ * 메모리 상태(레지스트리, 캐시 등)를 DB 커밋 결과와 맞추기 위해 사용
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 커밋이 성공한 뒤 작업 실행
+     * 활성 트랜잭션이 없으면 즉시 실행
+     *
+     * @param task 실행할 작업
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 작업 실행 (보상 처리용)
+     * 활성 트랜잭션이 없으면 롤백될 일도 없으므로 등록하지 않음
+     *
+     * @param task 실행할 보상 작업
+     */
+    public static void afterRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.team.LetsStudyNow_rg.domain.chat.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.dto.ChatMessageResponse;
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.chat.enums.MessageType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentChatBufferTest {
+
+	private final RecentChatBuffer buffer = new RecentChatBuffer();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void readingRoomWithoutMessagesDoesNotCreateBuffer() {
+		Supplier<List<ChatMessageResponse>> empty = counting(List.of());
+
+		assertTrue(buffer.getRecent(ChatRoomType.OPEN, 999L, 20, empty).isEmpty());
+		assertTrue(buffer.getRecent(ChatRoomType.OPEN, 999L, 20, empty).isEmpty());
+
+		// 버퍼가 없으므로 매번 DB(loader)에서 읽음
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	void roomWithMessagesIsServedFromBufferAfterFirstRead() {
+		Supplier<List<ChatMessageResponse>> latest = counting(List.of(message(2), message(1)));
+
+		buffer.getRecent(ChatRoomType.OPEN, 1L, 20, latest);
+		buffer.append(message(3));
+		List<ChatMessageResponse> recent = buffer.getRecent(ChatRoomType.OPEN, 1L, 20, latest);
+
+		assertEquals(1, loads.get());
+		assertEquals(List.of(3L, 2L, 1L), recent.stream().map(ChatMessageResponse::getMessageId).toList());
+	}
+
+	@Test
+	void deletedMessageIsNotServedAfterRemove() {
+		Supplier<List<ChatMessageResponse>> latest = counting(List.of(message(2), message(1)));
+		buffer.getRecent(ChatRoomType.OPEN, 1L, 20, latest);
+
+		buffer.remove(ChatRoomType.OPEN, 1L, 2L);
+
+		List<ChatMessageResponse> recent = buffer.getRecent(ChatRoomType.OPEN, 1L, 20, latest);
+		assertEquals(List.of(1L), recent.stream().map(ChatMessageResponse::getMessageId).toList());
+	}
+
+	private Supplier<List<ChatMessageResponse>> counting(List<ChatMessageResponse> messages) {
+		return () -> {
+			loads.incrementAndGet();
+			return messages;
+		};
+	}
+
+	private static ChatMessageResponse message(long id) {
+		return ChatMessageResponse.builder()
+				.messageId(id)
+				.type(MessageType.TALK)
+				.roomType(ChatRoomType.OPEN)
+				.roomId(1L)
+				.sender("member")
+				.message("message " + id)
+				.sentAt(LocalDateTime.of(2026, 1, 1, 9, 0).plusSeconds(id))
+				.build();
+	}
+}
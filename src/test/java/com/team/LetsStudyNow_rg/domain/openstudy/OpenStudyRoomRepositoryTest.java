@@ -0,0 +1,122 @@
+package com.team.LetsStudyNow_rg.domain.openstudy;
+
+import com.team.LetsStudyNow_rg.domain.member.entity.Member;
+import com.team.LetsStudyNow_rg.domain.member.enums.Role;
+import com.team.LetsStudyNow_rg.domain.openstudy.dto.OpenStudyRoomListDto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OpenStudyRoomRepositoryTest {
+
+	private static final List<RoomStatus> LISTED_STATUSES = List.of(RoomStatus.ACTIVE, RoomStatus.PENDING_DELETE);
+	private static final LocalDateTime FIRST_PAGE_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+	private static final int ROOMS = 12;
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	OpenStudyRoomRepository roomRepository;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+		for (int i = 0; i < ROOMS; i++) {
+			Member creator = em.persist(Member.builder()
+					.email("creator" + i + "@test.com")
+					.username("creator" + i)
+					.password("password")
+					.role(Role.ROLE_USER)
+					.build());
+			em.persist(OpenStudyRoom.builder()
+					.title("room" + i)
+					.studyField(StudyField.PROGRAMMING)
+					.maxParticipants(4)
+					.currentParticipants(1)
+					.creator(creator)
+					.createdAt(base.plusMinutes(i))
+					.build());
+		}
+		em.flush();
+		em.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void cursorPageIsOneStatementWithoutLoadingEntities() {
+		Slice<OpenStudyRoomListDto> slice = roomRepository.findSliceByStatusIn(
+				LISTED_STATUSES, FIRST_PAGE_CURSOR_CREATED_AT, Long.MAX_VALUE, PageRequest.of(0, 10));
+
+		assertEquals(10, slice.getContent().size());
+		assertTrue(slice.hasNext());
+		assertEquals("creator11", slice.getContent().get(0).creatorUsername());
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void filteredCursorPageIsOneStatementWithoutLoadingEntities() {
+		OpenStudyRoomListDto last = roomRepository.findSliceByStudyFieldAndStatusIn(
+				StudyField.PROGRAMMING, LISTED_STATUSES, FIRST_PAGE_CURSOR_CREATED_AT, Long.MAX_VALUE,
+				PageRequest.of(0, 10)).getContent().get(9);
+		statistics.clear();
+
+		Slice<OpenStudyRoomListDto> next = roomRepository.findSliceByStudyFieldAndStatusIn(
+				StudyField.PROGRAMMING, LISTED_STATUSES, last.createdAt(), last.id(), PageRequest.of(0, 10));
+
+		assertEquals(2, next.getContent().size());
+		assertFalse(next.hasNext());
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void offsetPageIsContentAndCountStatementsOnly() {
+		Page<OpenStudyRoomListDto> page = roomRepository.findListByStatusIn(LISTED_STATUSES, PageRequest.of(0, 10));
+
+		assertEquals(ROOMS, page.getTotalElements());
+		page.getContent().forEach(room -> assertTrue(room.creatorUsername().startsWith("creator")));
+		// 목록 쿼리 + Page 전체 개수 쿼리, 방마다 생성자를 조회하는 쿼리 없음
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void roomDetailIsOneStatement() {
+		Long roomId = roomRepository.findSliceByStatusIn(
+				LISTED_STATUSES, FIRST_PAGE_CURSOR_CREATED_AT, Long.MAX_VALUE, PageRequest.of(0, 1))
+				.getContent().get(0).id();
+		statistics.clear();
+
+		OpenStudyRoomListDto detail = roomRepository.findListDtoById(roomId).orElseThrow();
+
+		assertEquals("creator11", detail.creatorUsername());
+		assertEquals(StudyField.PROGRAMMING.getDescription(), detail.studyField());
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+}
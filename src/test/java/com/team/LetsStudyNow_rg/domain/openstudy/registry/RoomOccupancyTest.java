@@ -0,0 +1,72 @@
+package com.team.LetsStudyNow_rg.domain.openstudy.registry;
+
+import com.team.LetsStudyNow_rg.domain.openstudy.RoomStatus;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomDeletingException;
+import com.team.LetsStudyNow_rg.domain.openstudy.exception.RoomFullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomOccupancyTest {
+
+	@Test
+	void concurrentJoinsNeverExceedCapacity() throws InterruptedException {
+		RoomOccupancy occupancy = new RoomOccupancy(10, 1, RoomStatus.ACTIVE);
+		int joins = 1000;
+		ExecutorService pool = Executors.newFixedThreadPool(64);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger admitted = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+
+		for (int i = 0; i < joins; i++) {
+			pool.submit(() -> {
+				try {
+					start.await();
+					occupancy.tryAdmit();
+					admitted.incrementAndGet();
+				} catch (RoomFullException e) {
+					rejected.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(9, admitted.get());
+		assertEquals(joins - 9, rejected.get());
+		assertEquals(10, occupancy.getCurrentParticipants());
+	}
+
+	@Test
+	void pendingDeleteRoomRejectsJoin() {
+		RoomOccupancy occupancy = new RoomOccupancy(4, 1, RoomStatus.PENDING_DELETE);
+
+		assertThrows(RoomDeletingException.class, occupancy::tryAdmit);
+		assertEquals(1, occupancy.getCurrentParticipants());
+	}
+
+	@Test
+	void closeIsRefusedOnceSecondParticipantIsAdmitted() {
+		RoomOccupancy occupancy = new RoomOccupancy(4, 1, RoomStatus.ACTIVE);
+		occupancy.tryAdmit();
+
+		assertFalse(occupancy.tryClose());
+		assertEquals(RoomStatus.ACTIVE, occupancy.getStatus());
+
+		occupancy.release();
+		assertTrue(occupancy.tryClose());
+		assertEquals(RoomStatus.DELETED, occupancy.getStatus());
+	}
+}
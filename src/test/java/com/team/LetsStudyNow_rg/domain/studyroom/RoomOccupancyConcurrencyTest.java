@@ -0,0 +1,172 @@
+package com.team.LetsStudyNow_rg.domain.studyroom;
+
+import com.team.LetsStudyNow_rg.domain.groupstudy.domain.StudyRoom;
+import com.team.LetsStudyNow_rg.domain.groupstudy.repository.StudyRoomRepository;
+import com.team.LetsStudyNow_rg.domain.member.entity.Member;
+import com.team.LetsStudyNow_rg.domain.member.enums.Role;
+import com.team.LetsStudyNow_rg.domain.member.repository.MemberRepository;
+import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoom;
+import com.team.LetsStudyNow_rg.domain.openstudy.OpenStudyRoomRepository;
+import com.team.LetsStudyNow_rg.domain.openstudy.StudyField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 입장/퇴장 시 조건부 UPDATE가 인원 제한을 지키는지 확인
+ * (테스트 트랜잭션 없이 요청마다 별도 트랜잭션으로 커밋)
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RoomOccupancyConcurrencyTest {
+
+	private static final int ATTEMPTS = 200;
+	private static final int THREADS = 32;
+	private static final int MAX_MEMBERS = 10;
+
+	@Autowired
+	StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	OpenStudyRoomRepository openStudyRoomRepository;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	void tearDown() {
+		studyRoomRepository.deleteAll();
+		openStudyRoomRepository.deleteAll();
+		memberRepository.deleteAll();
+	}
+
+	@Test
+	void groupRoomJoinsStopAtMaxMembers() throws Exception {
+		Long roomId = studyRoomRepository.save(new StudyRoom(1L, "room", "프로그래밍", 1, MAX_MEMBERS, 1L)).getId();
+
+		int joined = concurrently(() -> studyRoomRepository.increaseCurrentMembers(roomId, LocalDateTime.now()));
+
+		// 생성자 1명 + 입장 성공 수 = 최대 인원
+		assertEquals(MAX_MEMBERS - 1, joined);
+		assertEquals(MAX_MEMBERS, studyRoomRepository.findCurrentMembersById(roomId));
+	}
+
+	@Test
+	void groupRoomLeavesStopAtZero() throws Exception {
+		Long roomId = studyRoomRepository.save(new StudyRoom(1L, "room", "프로그래밍", 1, MAX_MEMBERS, 1L)).getId();
+
+		int left = concurrently(() -> studyRoomRepository.decreaseCurrentMembers(roomId));
+
+		assertEquals(1, left);
+		assertEquals(0, studyRoomRepository.findCurrentMembersById(roomId));
+	}
+
+	@Test
+	void openRoomJoinsStopAtMaxParticipants() throws Exception {
+		Long roomId = saveOpenRoom(1);
+
+		int joined = concurrently(() -> openStudyRoomRepository.incrementParticipants(roomId));
+
+		assertEquals(MAX_MEMBERS - 1, joined);
+		assertEquals(MAX_MEMBERS, openStudyRoomRepository.findCurrentParticipantsById(roomId));
+	}
+
+	@Test
+	void openRoomMixedJoinsAndLeavesStayWithinBounds() throws Exception {
+		Long roomId = saveOpenRoom(MAX_MEMBERS / 2);
+		AtomicInteger turn = new AtomicInteger();
+
+		// 입장/퇴장을 번갈아 요청 - 성공한 입장과 퇴장의 차이만큼만 인원이 바뀌어야 함
+		AtomicInteger joins = new AtomicInteger();
+		AtomicInteger leaves = new AtomicInteger();
+		concurrently(() -> {
+			if (turn.getAndIncrement() % 2 == 0) {
+				int updated = openStudyRoomRepository.incrementParticipants(roomId);
+				joins.addAndGet(updated);
+				return updated;
+			}
+			int updated = openStudyRoomRepository.decrementParticipants(roomId);
+			leaves.addAndGet(updated);
+			return updated;
+		});
+
+		int current = openStudyRoomRepository.findCurrentParticipantsById(roomId);
+		assertEquals(MAX_MEMBERS / 2 + joins.get() - leaves.get(), current);
+		assertTrue(current >= 0 && current <= MAX_MEMBERS);
+	}
+
+	private Long saveOpenRoom(int currentParticipants) {
+		Member creator = memberRepository.save(Member.builder()
+				.email("creator@test.com")
+				.username("creator")
+				.password("password")
+				.role(Role.ROLE_USER)
+				.build());
+		return openStudyRoomRepository.save(OpenStudyRoom.builder()
+				.title("room")
+				.studyField(StudyField.PROGRAMMING)
+				.maxParticipants(MAX_MEMBERS)
+				.currentParticipants(currentParticipants)
+				.creator(creator)
+				.createdAt(LocalDateTime.now())
+				.build()).getId();
+	}
+
+	/**
+	 * ATTEMPTS번의 요청을 THREADS개 스레드에서 동시에 시작 (요청마다 별도 트랜잭션)
+	 *
+	 * @return 갱신된 행 수 합계 (성공한 요청 수)
+	 */
+	private int concurrently(IntSupplier update) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger updated = new AtomicInteger();
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < ATTEMPTS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					updated.addAndGet(transactionTemplate.execute(status -> update.getAsInt()));
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return updated.get();
+	}
+}
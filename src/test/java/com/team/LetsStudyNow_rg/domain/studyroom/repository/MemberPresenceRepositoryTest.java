@@ -0,0 +1,50 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.repository;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.MemberPresence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberPresenceRepositoryTest {
+
+	@Autowired
+	MemberPresenceRepository memberPresenceRepository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		memberPresenceRepository.deleteAll();
+	}
+
+	@Test
+	void secondEnterFailsWithoutRollingBackTheTransaction() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		// 중복 키 실패 후에도 같은 트랜잭션의 다른 작업은 커밋되어야 함
+		transactionTemplate.executeWithoutResult(status -> {
+			assertTrue(memberPresenceRepository.insertIfAbsent(1L, ChatRoomType.OPEN, 10L));
+			assertFalse(memberPresenceRepository.insertIfAbsent(1L, ChatRoomType.GROUP, 20L));
+			assertTrue(memberPresenceRepository.insertIfAbsent(2L, ChatRoomType.GROUP, 20L));
+			assertFalse(status.isRollbackOnly());
+		});
+
+		MemberPresence presence = memberPresenceRepository.findById(1L).orElseThrow();
+		assertEquals(ChatRoomType.OPEN, presence.getRoomType());
+		assertEquals(10L, presence.getRoomId());
+		assertEquals(2, memberPresenceRepository.count());
+	}
+}
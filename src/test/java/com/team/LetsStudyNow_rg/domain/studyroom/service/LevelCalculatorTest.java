@@ -0,0 +1,48 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LevelCalculatorTest {
+
+	private static final int MAX_LEVEL = 10_000;
+
+	@Test
+	void totalExpMatchesIterativeSumUpToMaxLevel() {
+		long expected = 0;
+		for (int level = 1; level <= MAX_LEVEL; level++) {
+			assertEquals(expected, LevelCalculator.totalExpForLevel(level), "level " + level);
+			expected += (level / 10 + 1) * 600L;
+		}
+	}
+
+	@Test
+	void levelForExpMatchesLevelUpLoopAtEveryBoundary() {
+		for (int level = 1; level < MAX_LEVEL; level++) {
+			long boundary = LevelCalculator.totalExpForLevel(level + 1);
+			assertEquals(level, LevelCalculator.levelForExp(boundary - 1), "exp " + (boundary - 1));
+			assertEquals(level + 1, LevelCalculator.levelForExp(boundary), "exp " + boundary);
+		}
+	}
+
+	@Test
+	void levelForExpMatchesLevelUpLoopForArbitraryExp() {
+		int level = 1;
+		for (long exp = 0; exp <= 2_000_000; exp += 37) {
+			while (exp >= LevelCalculator.totalExpForLevel(level + 1)) {
+				level++;
+			}
+			assertEquals(level, LevelCalculator.levelForExp(exp), "exp " + exp);
+		}
+	}
+
+	@Test
+	void requiredMinutesStepsEveryTenLevels() {
+		assertEquals(600, LevelCalculator.requiredMinutesForLevel(1));
+		assertEquals(600, LevelCalculator.requiredMinutesForLevel(9));
+		assertEquals(1200, LevelCalculator.requiredMinutesForLevel(10));
+		assertEquals(1800, LevelCalculator.requiredMinutesForLevel(29));
+		assertEquals(2400, LevelCalculator.requiredMinutesForLevel(30));
+	}
+}
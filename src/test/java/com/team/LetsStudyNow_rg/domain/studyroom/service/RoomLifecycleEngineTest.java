@@ -0,0 +1,210 @@
+package com.team.LetsStudyNow_rg.domain.studyroom.service;
+
+import com.team.LetsStudyNow_rg.domain.chat.enums.ChatRoomType;
+import com.team.LetsStudyNow_rg.domain.studyroom.entity.MemberPresence;
+import com.team.LetsStudyNow_rg.domain.timer.service.PersonalTimerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 입장/퇴장 단계 순서와, 중간 실패 시 이후 단계가 실행되지 않고 예외가 전파되는지 확인
+ * (예외가 엔진의 @Transactional 밖으로 나가야 앞 단계의 DB 변경이 롤백됨)
+ */
+class RoomLifecycleEngineTest {
+
+	private static final Long ROOM_ID = 10L;
+	private static final Long MEMBER_ID = 1L;
+
+	private final MemberPresenceService memberPresenceService = mock(MemberPresenceService.class);
+	private final StudySessionService studySessionService = mock(StudySessionService.class);
+	private final PersonalTimerService personalTimerService = mock(PersonalTimerService.class);
+	private final RoomTeardownService roomTeardownService = mock(RoomTeardownService.class);
+	private final RoomPresencePublisher presencePublisher = mock(RoomPresencePublisher.class);
+	private final RoomLifecyclePolicy policy = mock(RoomLifecyclePolicy.class);
+
+	private final RoomLifecycleEngine engine = new RoomLifecycleEngine(
+			memberPresenceService, studySessionService, personalTimerService, roomTeardownService, presencePublisher);
+
+	@BeforeEach
+	void setUp() {
+		when(policy.roomType()).thenReturn(ChatRoomType.GROUP);
+		when(policy.studyType()).thenReturn("GROUP_STUDY");
+	}
+
+	@Test
+	void joinRunsStepsInOrder() {
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(true);
+		when(policy.admit(ROOM_ID)).thenReturn(3);
+
+		int current = engine.join(policy, ROOM_ID, MEMBER_ID, "member", "profile.png");
+
+		assertEquals(3, current);
+		InOrder order = inOrder(memberPresenceService, policy, studySessionService, personalTimerService, presencePublisher);
+		order.verify(memberPresenceService).enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID);
+		order.verify(policy).admit(ROOM_ID);
+		order.verify(policy).addParticipant(ROOM_ID, MEMBER_ID);
+		order.verify(studySessionService).startStudySession(MEMBER_ID, "GROUP_STUDY", ROOM_ID);
+		order.verify(personalTimerService).startTimer(MEMBER_ID, ROOM_ID, ChatRoomType.GROUP);
+		order.verify(presencePublisher).publishJoin(ChatRoomType.GROUP, ROOM_ID, MEMBER_ID, "member", "profile.png", 3);
+	}
+
+	@Test
+	void joinWhenAlreadyInAnotherRoomStopsBeforeAdmit() {
+		MemberPresence presence = presence(ChatRoomType.OPEN, 99L);
+		RuntimeException alreadyInRoom = new IllegalArgumentException("already");
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(false);
+		when(memberPresenceService.find(MEMBER_ID)).thenReturn(Optional.of(presence));
+		when(policy.alreadyInRoom(false)).thenReturn(alreadyInRoom);
+
+		RuntimeException thrown = assertThrows(RuntimeException.class,
+				() -> engine.join(policy, ROOM_ID, MEMBER_ID, "member", null));
+
+		assertSame(alreadyInRoom, thrown);
+		verify(policy, never()).admit(anyLong());
+		verifyNoInteractions(studySessionService, personalTimerService, presencePublisher);
+	}
+
+	@Test
+	void joinWhenAlreadyInSameRoomReportsSameRoom() {
+		MemberPresence presence = presence(ChatRoomType.GROUP, ROOM_ID);
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(false);
+		when(memberPresenceService.find(MEMBER_ID)).thenReturn(Optional.of(presence));
+		when(policy.alreadyInRoom(true)).thenReturn(new IllegalArgumentException("same room"));
+
+		assertThrows(IllegalArgumentException.class, () -> engine.join(policy, ROOM_ID, MEMBER_ID, "member", null));
+
+		verify(policy).alreadyInRoom(true);
+	}
+
+	@Test
+	void joinWhenAdmitFailsPropagatesWithoutLaterSteps() {
+		RuntimeException full = new IllegalArgumentException("full");
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(true);
+		when(policy.admit(ROOM_ID)).thenThrow(full);
+
+		RuntimeException thrown = assertThrows(RuntimeException.class,
+				() -> engine.join(policy, ROOM_ID, MEMBER_ID, "member", null));
+
+		// 입장 현황 기록은 호출한 트랜잭션과 함께 롤백됨
+		assertSame(full, thrown);
+		verify(policy, never()).addParticipant(anyLong(), anyLong());
+		verifyNoInteractions(studySessionService, personalTimerService, presencePublisher);
+	}
+
+	@Test
+	void joinWhenSessionStartFailsDoesNotPublish() {
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(true);
+		when(policy.admit(ROOM_ID)).thenReturn(2);
+		when(studySessionService.startStudySession(MEMBER_ID, "GROUP_STUDY", ROOM_ID))
+				.thenThrow(new IllegalStateException("session"));
+
+		assertThrows(IllegalStateException.class, () -> engine.join(policy, ROOM_ID, MEMBER_ID, "member", null));
+
+		verifyNoInteractions(personalTimerService, presencePublisher);
+	}
+
+	@Test
+	void joinContinuesWhenStaleTimerExists() {
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(true);
+		when(policy.admit(ROOM_ID)).thenReturn(2);
+		when(personalTimerService.startTimer(MEMBER_ID, ROOM_ID, ChatRoomType.GROUP))
+				.thenThrow(new IllegalStateException("timer"));
+
+		assertEquals(2, engine.join(policy, ROOM_ID, MEMBER_ID, "member", null));
+
+		verify(presencePublisher).publishJoin(ChatRoomType.GROUP, ROOM_ID, MEMBER_ID, "member", null, 2);
+	}
+
+	@Test
+	void joinAsCreatorSkipsAdmitAndEvent() {
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(true);
+
+		engine.joinAsCreator(policy, ROOM_ID, MEMBER_ID);
+
+		InOrder order = inOrder(memberPresenceService, policy, studySessionService, personalTimerService);
+		order.verify(memberPresenceService).enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID);
+		order.verify(policy).addParticipant(ROOM_ID, MEMBER_ID);
+		order.verify(studySessionService).startStudySession(MEMBER_ID, "GROUP_STUDY", ROOM_ID);
+		order.verify(personalTimerService).startTimer(MEMBER_ID, ROOM_ID, ChatRoomType.GROUP);
+		verify(policy, never()).admit(anyLong());
+		verifyNoInteractions(presencePublisher);
+	}
+
+	@Test
+	void joinAsCreatorWhenAlreadyInRoomFails() {
+		RuntimeException alreadyInRoom = new IllegalArgumentException("leave first");
+		when(memberPresenceService.enter(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID)).thenReturn(false);
+		when(policy.alreadyInRoomOnCreate()).thenReturn(alreadyInRoom);
+
+		assertSame(alreadyInRoom, assertThrows(RuntimeException.class,
+				() -> engine.joinAsCreator(policy, ROOM_ID, MEMBER_ID)));
+
+		verify(policy, never()).addParticipant(anyLong(), anyLong());
+		verifyNoInteractions(studySessionService, personalTimerService);
+	}
+
+	@Test
+	void leaveRunsStepsInOrder() {
+		when(policy.removeParticipant(ROOM_ID, MEMBER_ID)).thenReturn(true);
+		when(policy.release(ROOM_ID)).thenReturn(1);
+
+		int remaining = engine.leave(policy, ROOM_ID, MEMBER_ID);
+
+		assertEquals(1, remaining);
+		InOrder order = inOrder(policy, memberPresenceService, roomTeardownService, presencePublisher);
+		order.verify(policy).removeParticipant(ROOM_ID, MEMBER_ID);
+		order.verify(memberPresenceService).leave(MEMBER_ID, ChatRoomType.GROUP, ROOM_ID);
+		order.verify(roomTeardownService).endSessionsAndTimers(List.of(MEMBER_ID));
+		order.verify(policy).release(ROOM_ID);
+		order.verify(presencePublisher).publishLeave(ChatRoomType.GROUP, ROOM_ID, MEMBER_ID, 1);
+	}
+
+	@Test
+	void leaveWhenNotParticipantChangesNothing() {
+		RuntimeException notInRoom = new IllegalArgumentException("not in room");
+		when(policy.removeParticipant(ROOM_ID, MEMBER_ID)).thenReturn(false);
+		when(policy.notInRoom()).thenReturn(notInRoom);
+
+		assertSame(notInRoom, assertThrows(RuntimeException.class, () -> engine.leave(policy, ROOM_ID, MEMBER_ID)));
+
+		verify(policy, never()).release(anyLong());
+		verifyNoInteractions(memberPresenceService, roomTeardownService, presencePublisher);
+	}
+
+	@Test
+	void leaveWhenTeardownFailsDoesNotReleaseOrPublish() {
+		when(policy.removeParticipant(ROOM_ID, MEMBER_ID)).thenReturn(true);
+		RuntimeException failure = new IllegalStateException("teardown");
+		doThrow(failure).when(roomTeardownService).endSessionsAndTimers(any());
+
+		assertSame(failure, assertThrows(RuntimeException.class, () -> engine.leave(policy, ROOM_ID, MEMBER_ID)));
+
+		verify(policy, never()).release(anyLong());
+		verify(presencePublisher, never()).publishLeave(any(), anyLong(), anyLong(), anyInt());
+	}
+
+	private static MemberPresence presence(ChatRoomType roomType, Long roomId) {
+		MemberPresence presence = mock(MemberPresence.class);
+		when(presence.getRoomType()).thenReturn(roomType);
+		when(presence.getRoomId()).thenReturn(roomId);
+		return presence;
+	}
+}
@@ -0,0 +1,47 @@
+package com.team.LetsStudyNow_rg.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TtlCacheTest {
+
+	private final TtlCache<Long, String> cache = new TtlCache<>(Duration.ofMinutes(5), 100);
+
+	@Test
+	void loadedValueIsCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.get(1L, id -> "v" + loads.incrementAndGet());
+
+		assertEquals("v1", cache.get(1L, id -> "v" + loads.incrementAndGet()));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void valueLoadedDuringInvalidationIsNotCached() {
+		// 읽는 도중 다른 요청의 커밋 후 무효화가 끼어든 경우
+		String stale = cache.get(1L, id -> {
+			cache.invalidate(id);
+			return "stale";
+		});
+
+		assertEquals("stale", stale);
+		assertNull(cache.getIfPresent(1L));
+		assertEquals("fresh", cache.get(1L, id -> "fresh"));
+	}
+
+	@Test
+	void invalidateAllDuringLoadAlsoSkipsStore() {
+		cache.get(1L, id -> {
+			cache.invalidateAll();
+			return "stale";
+		});
+
+		assertNull(cache.getIfPresent(1L));
+	}
+}
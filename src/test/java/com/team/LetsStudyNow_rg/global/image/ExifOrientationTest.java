@@ -0,0 +1,188 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExifOrientationTest {
+
+	private static final byte[] SOI = {(byte) 0xFF, (byte) 0xD8};
+	private static final byte[] EOI = {(byte) 0xFF, (byte) 0xD9};
+
+	@Test
+	void readsOrientationFromBigEndianExif() throws IOException {
+		assertEquals(6, read(jpeg(app1(exif(ByteOrder.BIG_ENDIAN, 6)))));
+	}
+
+	@Test
+	void readsOrientationFromLittleEndianExif() throws IOException {
+		assertEquals(8, read(jpeg(app1(exif(ByteOrder.LITTLE_ENDIAN, 8)))));
+	}
+
+	@Test
+	void skipsOtherSegmentsBeforeExif() throws IOException {
+		byte[] app0 = segment(0xFFE0, "JFIF\0".getBytes());
+		byte[] xmp = app1("http://ns.adobe.com/xap/1.0/\0".getBytes());
+
+		assertEquals(3, read(jpeg(app0, xmp, app1(exif(ByteOrder.BIG_ENDIAN, 3)))));
+	}
+
+	@Test
+	void notJpegIsNormal() throws IOException {
+		assertEquals(ExifOrientation.NORMAL, read(new byte[]{(byte) 0x89, 'P', 'N', 'G'}));
+		assertEquals(ExifOrientation.NORMAL, read(new byte[0]));
+	}
+
+	@Test
+	void jpegWithoutExifIsNormal() throws IOException {
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(segment(0xFFE0, "JFIF\0".getBytes()))));
+	}
+
+	@Test
+	void truncatedApp1SegmentIsNormal() throws IOException {
+		byte[] complete = jpeg(app1(exif(ByteOrder.BIG_ENDIAN, 6)));
+		// 세그먼트 길이는 그대로 두고 본문 중간에서 끊긴 파일
+		byte[] truncated = Arrays.copyOf(complete, SOI.length + 4 + 10);
+
+		assertEquals(ExifOrientation.NORMAL, read(truncated));
+	}
+
+	@Test
+	void truncatedSegmentHeaderIsNormal() throws IOException {
+		assertEquals(ExifOrientation.NORMAL, read(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0x00}));
+	}
+
+	@Test
+	void segmentLengthShorterThanLengthFieldIsNormal() throws IOException {
+		byte[] malformed = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1, 0x00, 0x01};
+
+		assertEquals(ExifOrientation.NORMAL, read(malformed));
+	}
+
+	@Test
+	void exifHeaderShorterThanTiffHeaderIsNormal() throws IOException {
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1("Exif\0\0MM".getBytes()))));
+	}
+
+	@Test
+	void ifdOffsetOutsideSegmentIsNormal() throws IOException {
+		byte[] exif = exif(ByteOrder.BIG_ENDIAN, 6);
+		ByteBuffer.wrap(exif).putInt(10, 0x7FFF_FFFF);
+
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1(exif))));
+	}
+
+	@Test
+	void ifdOffsetWithHighBitSetIsNormal() throws IOException {
+		byte[] exif = exif(ByteOrder.BIG_ENDIAN, 6);
+		ByteBuffer.wrap(exif).putInt(10, 0xFFFF_FFF0);
+
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1(exif))));
+	}
+
+	@Test
+	void entryCountLargerThanSegmentIsNormal() throws IOException {
+		byte[] exif = exif(ByteOrder.BIG_ENDIAN, 6);
+		// IFD 항목 수를 부풀리고 실제 항목(방향 태그)은 다른 태그로 바꿈
+		ByteBuffer buffer = ByteBuffer.wrap(exif);
+		buffer.putShort(14, (short) 0xFFFF);
+		buffer.putShort(16, (short) 0x0100);
+
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1(exif))));
+	}
+
+	@Test
+	void orientationOutOfRangeIsNormal() throws IOException {
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1(exif(ByteOrder.BIG_ENDIAN, 0)))));
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(app1(exif(ByteOrder.BIG_ENDIAN, 9)))));
+	}
+
+	@Test
+	void stopsAtImageData() throws IOException {
+		byte[] sos = segment(0xFFDA, new byte[]{0, 0});
+
+		assertEquals(ExifOrientation.NORMAL, read(jpeg(sos, app1(exif(ByteOrder.BIG_ENDIAN, 6)))));
+	}
+
+	@Test
+	void transformMapsStoredImageOntoUprightBounds() {
+		int width = 40;
+		int height = 30;
+		for (int orientation = 1; orientation <= 8; orientation++) {
+			boolean swap = ExifOrientation.swapsDimensions(orientation);
+			int uprightWidth = swap ? height : width;
+			int uprightHeight = swap ? width : height;
+			AffineTransform transform = ExifOrientation.transform(orientation, width, height);
+
+			for (Point2D corner : new Point2D[]{
+					new Point2D.Double(0, 0), new Point2D.Double(width, 0),
+					new Point2D.Double(0, height), new Point2D.Double(width, height)}) {
+				Point2D mapped = transform.transform(corner, null);
+				assertTrue(mapped.getX() >= 0 && mapped.getX() <= uprightWidth, "orientation " + orientation);
+				assertTrue(mapped.getY() >= 0 && mapped.getY() <= uprightHeight, "orientation " + orientation);
+			}
+		}
+	}
+
+	@Test
+	void onlyQuarterTurnsSwapDimensions() {
+		for (int orientation = 1; orientation <= 8; orientation++) {
+			assertEquals(orientation >= 5, ExifOrientation.swapsDimensions(orientation));
+		}
+	}
+
+	private static int read(byte[] bytes) throws IOException {
+		return ExifOrientation.read(new ByteArrayInputStream(bytes));
+	}
+
+	static byte[] jpeg(byte[]... segments) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		output.writeBytes(SOI);
+		for (byte[] segment : segments) {
+			output.writeBytes(segment);
+		}
+		output.writeBytes(EOI);
+		return output.toByteArray();
+	}
+
+	static byte[] app1(byte[] payload) {
+		return segment(0xFFE1, payload);
+	}
+
+	/**
+	 * "Exif\0\0" + TIFF 헤더 + 방향 태그 하나만 있는 IFD
+	 */
+	static byte[] exif(ByteOrder order, int orientation) {
+		ByteBuffer buffer = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4).order(order);
+		buffer.put("Exif\0\0".getBytes());
+		buffer.put(order == ByteOrder.LITTLE_ENDIAN ? "II".getBytes() : "MM".getBytes());
+		buffer.putShort((short) 42);
+		buffer.putInt(8);                  // 첫 IFD 위치 (TIFF 헤더 기준)
+		buffer.putShort((short) 1);        // 항목 수
+		buffer.putShort((short) 0x0112);   // 방향 태그
+		buffer.putShort((short) 3);        // SHORT
+		buffer.putInt(1);
+		buffer.putShort((short) orientation);
+		buffer.putShort((short) 0);
+		buffer.putInt(0);                  // 다음 IFD 없음
+		return buffer.array();
+	}
+
+	private static byte[] segment(int marker, byte[] payload) {
+		return ByteBuffer.allocate(4 + payload.length)
+				.putShort((short) marker)
+				.putShort((short) (payload.length + 2))
+				.put(payload)
+				.array();
+	}
+}
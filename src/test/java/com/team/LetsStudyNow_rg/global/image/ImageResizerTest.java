@@ -0,0 +1,180 @@
+package com.team.LetsStudyNow_rg.global.image;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageResizerTest {
+
+	private final ImageResizer resizer = new ImageResizer();
+
+	@AfterEach
+	void tearDown() {
+		resizer.shutdown();
+	}
+
+	@Test
+	void largeImageIsScaledToEachMaxEdgeKeepingAspectRatio() throws IOException {
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(3000, 2000, BufferedImage.TYPE_INT_RGB), "jpeg"), "image/jpeg");
+
+		assertSize(1280, 853, resized.get(ImageSize.DISPLAY));
+		assertSize(240, 160, resized.get(ImageSize.THUMBNAIL));
+		assertEquals("image/jpeg", resized.get(ImageSize.DISPLAY).contentType());
+		assertEquals(".jpg", resized.get(ImageSize.DISPLAY).extension());
+	}
+
+	@Test
+	void portraitImageIsBoundedByHeight() throws IOException {
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(1000, 4000, BufferedImage.TYPE_INT_RGB), "jpeg"), "image/jpeg");
+
+		assertSize(320, 1280, resized.get(ImageSize.DISPLAY));
+		assertSize(60, 240, resized.get(ImageSize.THUMBNAIL));
+	}
+
+	@Test
+	void subsampledDecodingStillReachesMaxEdge() throws IOException {
+		// 긴 변이 DISPLAY의 2배를 넘으면 서브샘플링해서 디코딩
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(5200, 100, BufferedImage.TYPE_INT_RGB), "png"), "image/png");
+
+		assertSize(1280, 25, resized.get(ImageSize.DISPLAY));
+		assertSize(240, 5, resized.get(ImageSize.THUMBNAIL));
+	}
+
+	@Test
+	void smallImageIsNotUpscaled() throws IOException {
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(100, 50, BufferedImage.TYPE_INT_RGB), "jpeg"), "image/jpeg");
+
+		assertSize(100, 50, resized.get(ImageSize.DISPLAY));
+		assertSize(100, 50, resized.get(ImageSize.THUMBNAIL));
+	}
+
+	@Test
+	void extremeAspectRatioKeepsAtLeastOnePixel() throws IOException {
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(4000, 2, BufferedImage.TYPE_INT_RGB), "png"), "image/png");
+
+		assertSize(1280, 1, resized.get(ImageSize.DISPLAY));
+		assertSize(240, 1, resized.get(ImageSize.THUMBNAIL));
+	}
+
+	@Test
+	void transparentImageStaysPng() throws IOException {
+		Map<ImageSize, ResizedImage> resized = resize(encode(image(600, 300, BufferedImage.TYPE_INT_ARGB), "png"), "image/png");
+
+		ResizedImage thumbnail = resized.get(ImageSize.THUMBNAIL);
+		assertEquals("image/png", thumbnail.contentType());
+		assertEquals(".png", thumbnail.extension());
+		assertTrue(decode(thumbnail).getColorModel().hasAlpha());
+		assertSize(240, 120, thumbnail);
+	}
+
+	@Test
+	void exifRotationIsAppliedToOutput() throws IOException {
+		byte[] jpeg = withExif(encode(image(400, 200, BufferedImage.TYPE_INT_RGB), "jpeg"), 6);
+
+		Map<ImageSize, ResizedImage> resized = resize(jpeg, "image/jpeg");
+
+		assertSize(200, 400, resized.get(ImageSize.DISPLAY));
+		assertSize(120, 240, resized.get(ImageSize.THUMBNAIL));
+	}
+
+	@Test
+	void unsupportedTypeIsNotConverted() {
+		assertTrue(resizer.resize(new ByteArrayResource(new byte[]{1, 2, 3}), "image/gif").isEmpty());
+		assertTrue(resizer.resize(new ByteArrayResource(new byte[]{1, 2, 3}), null).isEmpty());
+	}
+
+	@Test
+	void unreadableImageIsRejected() {
+		assertThrows(IllegalArgumentException.class,
+				() -> resizer.resize(new ByteArrayResource("not an image".getBytes()), "image/png"));
+	}
+
+	@Test
+	void oversizedResolutionIsRejectedBeforeDecoding() {
+		// 헤더(IHDR)만 있는 10000x10000 PNG - 픽셀 데이터를 디코딩하기 전에 거절되어야 함
+		byte[] header = pngHeader(10_000, 10_000);
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> resizer.resize(new ByteArrayResource(header), "image/png"));
+		assertTrue(e.getMessage().contains("10000x10000"));
+	}
+
+	private Map<ImageSize, ResizedImage> resize(byte[] bytes, String contentType) {
+		return resizer.resize(new ByteArrayResource(bytes), contentType).orElseThrow();
+	}
+
+	private static void assertSize(int width, int height, ResizedImage resized) throws IOException {
+		BufferedImage image = decode(resized);
+		assertEquals(width, image.getWidth(), resized.size() + " width");
+		assertEquals(height, image.getHeight(), resized.size() + " height");
+	}
+
+	private static BufferedImage decode(ResizedImage resized) throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(resized.bytes()));
+	}
+
+	private static BufferedImage image(int width, int height, int type) {
+		BufferedImage image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; y += Math.max(1, height / 16)) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, 0x80FF0000 | (x & 0xFF));
+			}
+		}
+		return image;
+	}
+
+	private static byte[] encode(BufferedImage image, String format) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, format, output);
+		return output.toByteArray();
+	}
+
+	/**
+	 * JFIF(APP0) 세그먼트 뒤에 방향 태그만 있는 EXIF(APP1) 세그먼트 삽입
+	 */
+	private static byte[] withExif(byte[] jpeg, int orientation) {
+		int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+		byte[] app1 = ExifOrientationTest.app1(ExifOrientationTest.exif(ByteOrder.BIG_ENDIAN, orientation));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		output.write(jpeg, 0, app0End);
+		output.writeBytes(app1);
+		output.write(jpeg, app0End, jpeg.length - app0End);
+		return output.toByteArray();
+	}
+
+	private static byte[] pngHeader(int width, int height) {
+		ByteBuffer ihdr = ByteBuffer.allocate(4 + 13)
+				.put("IHDR".getBytes())
+				.putInt(width)
+				.putInt(height)
+				.put((byte) 8)   // 비트 깊이
+				.put((byte) 2)   // RGB
+				.put((byte) 0)
+				.put((byte) 0)
+				.put((byte) 0);
+		CRC32 crc = new CRC32();
+		crc.update(ihdr.array());
+
+		return ByteBuffer.allocate(8 + 4 + 17 + 4)
+				.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+				.putInt(13)
+				.put(ihdr.array())
+				.putInt((int) crc.getValue())
+				.array();
+	}
+}
@@ -0,0 +1,77 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemObjectStoreTest {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void putStoresFileAndUrlMapsBackToKey() throws IOException {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "http://localhost:8080/uploads/");
+		byte[] content = "image".getBytes(StandardCharsets.UTF_8);
+
+		store.put("chat/abc.png", new ByteArrayInputStream(content), content.length, "image/png");
+
+		assertEquals("image", Files.readString(root.resolve("chat/abc.png")));
+		String url = store.urlOf("chat/abc.png");
+		assertEquals("http://localhost:8080/uploads/chat/abc.png", url);
+		assertEquals("chat/abc.png", store.keyOf(url));
+		assertNull(store.keyOf("https://bucket.s3.amazonaws.com/chat/abc.png"));
+	}
+
+	@Test
+	void deleteRemovesFile() throws IOException {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "http://localhost:8080/uploads");
+		store.put("profile/a.jpg", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/jpeg");
+
+		store.delete("profile/a.jpg");
+
+		assertFalse(Files.exists(root.resolve("profile/a.jpg")));
+	}
+
+	@Test
+	void keysCannotEscapeRoot() {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "http://localhost:8080/uploads");
+
+		assertThrows(IllegalArgumentException.class,
+				() -> store.put("../outside.png", new ByteArrayInputStream(new byte[0]), 0, "image/png"));
+	}
+
+	@Test
+	void storedFilesAreServedUnderBaseUrlPath() {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "http://localhost:8080/uploads/");
+		ResourceHandlerRegistry registry = new ResourceHandlerRegistry(new StaticApplicationContext(), new MockServletContext());
+
+		store.addResourceHandlers(registry);
+
+		assertTrue(registry.hasMappingForPattern("/uploads/**"));
+	}
+
+	@Test
+	void noResourceHandlerWhenBaseUrlHasNoPath() {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "https://cdn.example.com");
+		ResourceHandlerRegistry registry = new ResourceHandlerRegistry(new StaticApplicationContext(), new MockServletContext());
+
+		store.addResourceHandlers(registry);
+
+		assertFalse(registry.hasMappingForPattern("/**"));
+	}
+}
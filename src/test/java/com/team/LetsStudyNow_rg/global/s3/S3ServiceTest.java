@@ -0,0 +1,66 @@
+package com.team.LetsStudyNow_rg.global.s3;
+
+import com.team.LetsStudyNow_rg.global.image.ImageResizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class S3ServiceTest {
+
+	@TempDir
+	Path root;
+
+	private final ImageResizer imageResizer = new ImageResizer();
+	private S3Service s3Service;
+
+	@BeforeEach
+	void setUp() {
+		FileSystemObjectStore store = new FileSystemObjectStore(root.toString(), "http://localhost:8080/uploads");
+		s3Service = new S3Service(store, imageResizer);
+		ReflectionTestUtils.setField(s3Service, "maxFileSize", 10L * 1024 * 1024);
+		ReflectionTestUtils.setField(s3Service, "allowedContentTypes",
+				Set.of("image/jpeg", "image/png", "image/gif", "image/webp"));
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3Service.shutdown();
+		imageResizer.shutdown();
+	}
+
+	@Test
+	void extensionComesFromValidatedContentTypeNotFileName() {
+		MockMultipartFile file = new MockMultipartFile("file", "x.html", "image/png", "<script>".getBytes());
+
+		String url = s3Service.uploadFile(file, "chat");
+
+		assertTrue(url.endsWith(".png"), url);
+	}
+
+	@Test
+	void unconvertedImageKeepsContentTypeExtension() {
+		MockMultipartFile file = new MockMultipartFile("file", "animation.html", "image/gif", "GIF89a".getBytes());
+
+		ImageUploadResult result = s3Service.uploadImage(file, "chat");
+
+		assertTrue(result.imageUrl().endsWith(".gif"), result.imageUrl());
+	}
+
+	@Test
+	void fileNameWithoutExtensionStillGetsOne() {
+		MockMultipartFile file = new MockMultipartFile("file", "photo", "IMAGE/JPEG", new byte[]{1, 2, 3});
+
+		String url = s3Service.uploadFile(file, "profile");
+
+		assertEquals(".jpg", url.substring(url.lastIndexOf('.')));
+	}
+}